@@ -0,0 +1,86 @@
+package com.vendo.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.json.UserJsonModule;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.test_utils.builder.SaveUserRequestDataBuilder;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of {@link User} and {@link SaveUserRequest} per wire format. The encoded
+ * sizes are printed once per trial, since bytes on the wire matter as much as CPU here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    private SaveUserRequest saveUserRequest;
+
+    private byte[] encodedUser;
+
+    private byte[] encodedSaveUserRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new UserJsonModule());
+        objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        user = UserDataBuilder.withAllFields()
+                .roles(Set.of(UserRole.USER))
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        saveUserRequest = SaveUserRequestDataBuilder.withAllFields().build();
+        encodedUser = objectMapper.writeValueAsBytes(user);
+        encodedSaveUserRequest = objectMapper.writeValueAsBytes(saveUserRequest);
+
+        System.out.printf("%n%s: User %d bytes, SaveUserRequest %d bytes%n", format, encodedUser.length, encodedSaveUserRequest.length);
+    }
+
+    @Benchmark
+    public byte[] encodeUser() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public User decodeUser() throws Exception {
+        return objectMapper.readValue(encodedUser, User.class);
+    }
+
+    @Benchmark
+    public byte[] encodeSaveUserRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(saveUserRequest);
+    }
+
+    @Benchmark
+    public SaveUserRequest decodeSaveUserRequest() throws Exception {
+        return objectMapper.readValue(encodedSaveUserRequest, SaveUserRequest.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.vendo.user_service.benchmark;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserStatus;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchQuery;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import com.vendo.user_service.port.user.UserCommandPort;
+import com.vendo.user_service.port.user.UserQueryPort;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Map-backed ports, so controller benchmarks measure the web layer rather than Mongo.
+ */
+class InMemoryUserPort implements UserQueryPort, UserCommandPort {
+
+    private final Map<String, User> usersById = new ConcurrentHashMap<>();
+    private final Map<String, User> usersByEmail = new ConcurrentHashMap<>();
+
+    void add(User user) {
+        usersById.put(user.getId(), user);
+        usersByEmail.put(user.getEmail(), user);
+    }
+
+    @Override
+    public User getById(String id) {
+        return orNotFound(usersById.get(id));
+    }
+
+    @Override
+    public User getByEmail(String email) {
+        return orNotFound(usersByEmail.get(email));
+    }
+
+    @Override
+    public UserSummary getSummaryById(String id) {
+        return toSummary(getById(id));
+    }
+
+    @Override
+    public UserSummary getSummaryByEmail(String email) {
+        return toSummary(getByEmail(email));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return usersByEmail.containsKey(email);
+    }
+
+    @Override
+    public Map<String, User> getByIds(Collection<String> ids) {
+        return collect(ids, usersById);
+    }
+
+    @Override
+    public Map<String, User> getByEmails(Collection<String> emails) {
+        return collect(emails, usersByEmail);
+    }
+
+    @Override
+    public Stream<User> streamAll(UserExportQuery query) {
+        return usersById.values().stream();
+    }
+
+    @Override
+    public List<User> search(UserSearchQuery query) {
+        return usersById.values().stream().limit(query.limit()).toList();
+    }
+
+    @Override
+    public User save(SaveUserRequest body) {
+        User user = User.builder()
+                .id(UUID.randomUUID().toString())
+                .email(body.email())
+                .build();
+        add(user);
+        return user;
+    }
+
+    @Override
+    public void update(String userId, UpdateUserRequest body) {
+        getById(userId);
+    }
+
+    @Override
+    public List<BulkUserResult> saveAll(List<SaveUserRequest> bodies) {
+        return bodies.stream()
+                .map(body -> BulkUserResult.of(body.email(), save(body).getId(), BulkUserStatus.CREATED))
+                .toList();
+    }
+
+    @Override
+    public List<BulkUserResult> upsertAll(List<SaveUserRequest> bodies) {
+        return saveAll(bodies);
+    }
+
+    private static Map<String, User> collect(Collection<String> keys, Map<String, User> users) {
+        Map<String, User> found = new HashMap<>();
+        for (String key : keys) {
+            User user = users.get(key);
+            if (user != null) {
+                found.put(key, user);
+            }
+        }
+        return found;
+    }
+
+    private static User orNotFound(User user) {
+        if (user == null) {
+            throw new UserNotFoundException("User not found.");
+        }
+        return user;
+    }
+
+    private static UserSummary toSummary(User user) {
+        return UserSummary.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .emailVerified(user.isEmailVerified())
+                .roles(user.getRoles())
+                .status(user.getStatus())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.vendo.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.core_lib.type.ServiceName;
+import com.vendo.core_lib.type.ServiceRole;
+import com.vendo.security_starter.jwt.parser.TokenClaims;
+import com.vendo.security_starter.jwt.parser.TokenClaimsParser;
+import com.vendo.user_service.adapter.security.in.InternalTokenValidator;
+import com.vendo.user_service.adapter.security.out.props.JwtProperties;
+import com.vendo.user_service.adapter.security.out.props.TokenCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the token check behind {@code InternalFilter}. Signature verification is stubbed, so
+ * {@code uncachedToken} shows the claim checks and cache bookkeeping rather than the crypto cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalTokenValidatorBenchmark {
+
+    private static final String KEY = "internalKey";
+
+    private InternalTokenValidator internalTokenValidator;
+
+    private String jwt;
+
+    private String opaqueToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setInternal(new JwtProperties.Internal(KEY));
+
+        TokenClaims claims = TokenClaims.builder()
+                .subject(ServiceName.AUTH_SERVICE.getServiceName())
+                .audience(Set.of(ServiceName.USER_SERVICE.getServiceName()))
+                .roles(Set.of(ServiceRole.INTERNAL.toString()))
+                .build();
+
+        TokenClaimsParser tokenClaimsParser = mock(TokenClaimsParser.class);
+        when(tokenClaimsParser.extract(anyString(), anyString())).thenReturn(claims);
+
+        internalTokenValidator = new InternalTokenValidator(
+                props,
+                tokenClaimsParser,
+                new ObjectMapper(),
+                new TokenCacheProperties(),
+                new SimpleMeterRegistry());
+
+        jwt = jwt(Instant.now().plus(1, ChronoUnit.HOURS));
+        opaqueToken = "opaque-token";
+    }
+
+    @Benchmark
+    public TokenClaims cachedToken() {
+        return internalTokenValidator.validate(jwt);
+    }
+
+    @Benchmark
+    public TokenClaims uncachedToken() {
+        return internalTokenValidator.validate(opaqueToken);
+    }
+
+    private static String jwt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString("{\"exp\":%d}".formatted(expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
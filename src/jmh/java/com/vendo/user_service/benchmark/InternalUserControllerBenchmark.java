@@ -0,0 +1,117 @@
+package com.vendo.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.vendo.user_service.adapter.user.in.InternalUserController;
+import com.vendo.user_service.adapter.user.in.json.BinaryObjectMappers;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.cache.UserResponseCache;
+import com.vendo.user_service.adapter.user.out.exception.UserExceptionHandler;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.adapter.user.out.props.UserResponseCacheProperties;
+import com.vendo.user_service.application.InternalUserService;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.infrastructure.props.BatchProps;
+import com.vendo.user_service.infrastructure.props.BulkProps;
+import com.vendo.user_service.infrastructure.props.ExportProps;
+import com.vendo.user_service.infrastructure.props.SearchProps;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Dispatches through {@link InternalUserController} with MockMvc over in-memory ports. The security
+ * filter chain is not part of this setup; {@link InternalTokenValidatorBenchmark} covers it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalUserControllerBenchmark {
+
+    private static final String USER_ID = "id";
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    private MockMvc mockMvc;
+
+    private MockMvc uncachedMockMvc;
+
+    @Setup
+    public void setUp() {
+        User user = UserDataBuilder.withAllFields().id(USER_ID).updatedAt(UPDATED_AT).build();
+        InMemoryUserPort userPort = new InMemoryUserPort();
+        userPort.add(user);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserCache userCache = new UserCache(new UserCacheProperties(), meterRegistry, new UserMapperImpl());
+        userCache.put(user);
+
+        InternalUserService service = new InternalUserService(userPort, userPort, new BatchProps(), new BulkProps(), new ExportProps(), new SearchProps());
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper objectMapper = builder.build();
+        BinaryObjectMappers binaryObjectMappers = new BinaryObjectMappers(
+                builder.factory(new CBORFactory()).build(),
+                builder.factory(new SmileFactory()).build());
+
+        UserResponseCacheProperties uncached = new UserResponseCacheProperties();
+        uncached.setEnabled(false);
+
+        mockMvc = mockMvc(new InternalUserController(service, objectMapper, binaryObjectMappers,
+                new UserResponseCache(new UserResponseCacheProperties(), meterRegistry, userCache, objectMapper)), objectMapper);
+        uncachedMockMvc = mockMvc(new InternalUserController(service, objectMapper, binaryObjectMappers,
+                new UserResponseCache(uncached, meterRegistry, userCache, objectMapper)), objectMapper);
+    }
+
+    @Benchmark
+    public MvcResult getById() throws Exception {
+        return mockMvc.perform(get("/internal/users").param("id", USER_ID)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getById_uncached() throws Exception {
+        return uncachedMockMvc.perform(get("/internal/users").param("id", USER_ID)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getById_notModified() throws Exception {
+        return mockMvc.perform(get("/internal/users").param("id", USER_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + USER_ID + "-" + UPDATED_AT.toEpochMilli() + "\"")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getSummaryById() throws Exception {
+        return mockMvc.perform(get("/internal/users").param("id", USER_ID).param("view", "summary")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getById_notFound() throws Exception {
+        return mockMvc.perform(get("/internal/users").param("id", "missing")).andReturn();
+    }
+
+    private static MockMvc mockMvc(InternalUserController controller, ObjectMapper objectMapper) {
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new UserExceptionHandler())
+                .setMessageConverters(new ByteArrayHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.vendo.user_service.benchmark;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.persistence.LookupBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares one query per lookup with {@link LookupBatcher} against a simulated Mongo that has a
+ * limited connection pool, a fixed round trip and a small cost per returned document.
+ * <p>
+ * {@code windowMillis = 0} is the current one-query-per-request path. Run with {@code -bm sample} to
+ * see the latency each window adds next to the throughput it buys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class LookupBatchingBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int POOL_SIZE = 10;
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(300);
+    private static final long PER_DOCUMENT_NANOS = TimeUnit.MICROSECONDS.toNanos(5);
+
+    @Param({"0", "1", "2"})
+    public int windowMillis;
+
+    @Param("100")
+    public int maxSize;
+
+    private final Semaphore connections = new Semaphore(POOL_SIZE);
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private LookupBatcher<String, String> batcher;
+
+    @Setup
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        batcher = new LookupBatcher<>(Duration.ofMillis(windowMillis), maxSize, this::findAllById,
+                () -> new UserNotFoundException("User not found."),
+                scheduler, executor, new SimpleMeterRegistry().summary("batch"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public String getById() {
+        String id = Integer.toString(ThreadLocalRandom.current().nextInt(USERS));
+        return windowMillis == 0 ? findById(id) : batcher.load(id);
+    }
+
+    private String findById(String id) {
+        return query(Set.of(id)).get(id);
+    }
+
+    private Map<String, String> findAllById(Set<String> ids) {
+        return query(ids);
+    }
+
+    private Map<String, String> query(Set<String> ids) {
+        connections.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS + PER_DOCUMENT_NANOS * ids.size());
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "user-" + id));
+        } finally {
+            connections.release();
+        }
+    }
+}
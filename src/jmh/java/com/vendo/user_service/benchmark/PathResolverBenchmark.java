@@ -0,0 +1,56 @@
+package com.vendo.user_service.benchmark;
+
+import com.vendo.user_service.adapter.security.in.InternalAntPathResolver;
+import com.vendo.user_service.infrastructure.props.PathProps;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link InternalAntPathResolver} with the resolver it replaced, which copied the
+ * configured patterns and ran {@link AntPathMatcher} on each of them per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathResolverBenchmark {
+
+    private static final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Param({"/internal/users", "/actuator/health", "/actuator/prometheus/x"})
+    private String path;
+
+    private PathProps props;
+
+    private InternalAntPathResolver resolver;
+
+    @Setup
+    public void setUp() {
+        props = new PathProps();
+        props.setGeneral(new LinkedHashSet<>(List.of(
+                "/actuator/health",
+                "/actuator/info",
+                "/actuator/prometheus/**",
+                "/v3/api-docs/**",
+                "/swagger-ui/**")));
+
+        resolver = new InternalAntPathResolver(props);
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        return Arrays.stream(props.getGeneral().toArray(String[]::new)).anyMatch(pr -> antPathMatcher.match(pr, path));
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return resolver.isPermittedPath(path);
+    }
+}
@@ -0,0 +1,59 @@
+package com.vendo.user_service.benchmark;
+
+import com.vendo.user_lib.type.ProviderType;
+import com.vendo.user_lib.type.UserStatus;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.test_utils.builder.UpdateUserRequestDataBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private MongoUser mongoUser;
+
+    private UpdateUserRequest updateUserRequest;
+
+    @Setup
+    public void setUp() {
+        mongoUser = MongoUser.builder()
+                .id("id")
+                .email("test@mail.com")
+                .emailVerified(true)
+                .status(UserStatus.ACTIVE)
+                .providerType(ProviderType.LOCAL)
+                .password("password")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .fullName("Full Name")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+
+        updateUserRequest = UpdateUserRequestDataBuilder.withAllFields().build();
+    }
+
+    @Benchmark
+    public User toUser() {
+        return userMapper.toUser(mongoUser);
+    }
+
+    @Benchmark
+    public MongoUser updateUser() {
+        userMapper.updateUser(mongoUser, updateUserRequest);
+        return mongoUser;
+    }
+}
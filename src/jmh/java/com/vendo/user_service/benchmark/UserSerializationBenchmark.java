@@ -0,0 +1,69 @@
+package com.vendo.user_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_service.adapter.user.in.json.UserJsonModule;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper reflectiveObjectMapper;
+
+    private User user;
+
+    private ExistsUserResponse exists;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new UserJsonModule())
+                .build();
+        reflectiveObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        user = UserDataBuilder.withAllFields()
+                .roles(Set.of(UserRole.USER))
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        exists = new ExistsUserResponse(true);
+    }
+
+    @Benchmark
+    public byte[] writeUser() throws Exception {
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writeUserReflective() throws Exception {
+        return reflectiveObjectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] writeExists() throws Exception {
+        return objectMapper.writeValueAsBytes(exists);
+    }
+
+    @Benchmark
+    public byte[] writeExistsReflective() throws Exception {
+        return reflectiveObjectMapper.writeValueAsBytes(exists);
+    }
+}
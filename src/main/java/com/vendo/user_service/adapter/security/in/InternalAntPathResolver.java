@@ -4,20 +4,35 @@ import com.vendo.security_lib.resolver.AntPathResolver;
 import com.vendo.user_service.infrastructure.props.PathProps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
-import java.util.Arrays;
+import java.util.Set;
 
+/**
+ * Matches against {@link PathProps} through a {@link PermittedPathMatcher}.
+ * <p>
+ * The matcher is recompiled whenever {@link PathProps#getGeneral()} returns a different set, which
+ * is what happens when the properties are rebound after a config server refresh.
+ */
 @Component
 @RequiredArgsConstructor
 public class InternalAntPathResolver implements AntPathResolver {
 
-    private static final AntPathMatcher antPathMatcher = new AntPathMatcher();
-
     private final PathProps props;
 
+    private volatile Compiled compiled;
+
     @Override
     public boolean isPermittedPath(String path) {
-        return Arrays.stream(props.getGeneral().toArray(String[]::new)).anyMatch(pr -> antPathMatcher.match(pr, path));
+        Set<String> general = props.getGeneral();
+
+        Compiled current = compiled;
+        if (current == null || current.source() != general) {
+            current = new Compiled(general, PermittedPathMatcher.compile(general));
+            compiled = current;
+        }
+
+        return current.matcher().matches(path);
     }
+
+    private record Compiled(Set<String> source, PermittedPathMatcher matcher) { }
 }
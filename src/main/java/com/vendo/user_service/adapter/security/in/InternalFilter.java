@@ -1,40 +1,41 @@
 package com.vendo.user_service.adapter.security.in;
 
-import com.vendo.core_lib.type.ServiceName;
-import com.vendo.core_lib.type.ServiceRole;
-import com.vendo.core_lib.utils.StringUtils;
 import com.vendo.security_lib.http.HttpUtils;
 import com.vendo.security_lib.resolver.AntPathResolver;
 import com.vendo.security_starter.filter.utils.FilterUtils;
 import com.vendo.security_starter.jwt.parser.TokenClaims;
-import com.vendo.security_starter.jwt.parser.TokenClaimsParser;
-import com.vendo.user_service.adapter.security.out.props.JwtProperties;
+import com.vendo.user_service.infrastructure.metrics.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.AuthenticationServiceException;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class InternalFilter extends OncePerRequestFilter {
 
-    private final JwtProperties props;
-
-    private final TokenClaimsParser tokenClaimsParser;
+    private final InternalTokenValidator internalTokenValidator;
     private final AntPathResolver antPathResolver;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -45,42 +46,42 @@ public class InternalFilter extends OncePerRequestFilter {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             String token = HttpUtils.getTokenFrom(request.getHeader(HttpUtils.AUTHORIZATION_HEADER));
-            TokenClaims claims = validateClaims(token);
+            TokenClaims claims = internalTokenValidator.validate(token);
             FilterUtils.addAuthToContext(claims, claims.roles());
+            outcome = "success";
         } catch (AuthenticationException e) {
             SecurityContextHolder.clearContext();
             throw e;
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new AuthenticationServiceException("Unauthorized.");
+        } finally {
+            RequestTrace.record(RequestTrace.Stage.AUTH, sample.stop(timers.computeIfAbsent(outcome, this::timer)));
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private Timer timer(String outcome) {
+        return Timer.builder("users.auth")
+                .description("Internal token authentication time")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
-        return antPathResolver.isPermittedPath(requestURI);
-    }
-
-    private TokenClaims validateClaims(String token) {
-        TokenClaims claims = tokenClaimsParser.extract(token, props.getInternal().key());
-
-        if (StringUtils.isEmpty(claims.subject()) || !ServiceName.getAllNames().contains(claims.subject())) {
-            throw new BadCredentialsException("Invalid subject %s.".formatted(claims.subject()));
-        }
-
-        if (CollectionUtils.isEmpty(claims.roles()) || !claims.roles().contains(ServiceRole.INTERNAL.name())) {
-            throw new BadCredentialsException("Invalid roles %s.".formatted(claims.roles()));
-        }
-
-        if (CollectionUtils.isEmpty(claims.audience()) || !claims.audience().contains(ServiceName.USER_SERVICE.getServiceName())) {
-            throw new BadCredentialsException("Invalid audience %s.".formatted(claims.audience()));
+        long start = System.nanoTime();
+        try {
+            return antPathResolver.isPermittedPath(requestURI);
+        } finally {
+            RequestTrace.record(RequestTrace.Stage.PATH_MATCH, System.nanoTime() - start);
         }
-
-        return claims;
     }
 }
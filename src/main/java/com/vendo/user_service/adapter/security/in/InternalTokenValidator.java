@@ -0,0 +1,137 @@
+package com.vendo.user_service.adapter.security.in;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vendo.core_lib.type.ServiceName;
+import com.vendo.core_lib.type.ServiceRole;
+import com.vendo.core_lib.utils.StringUtils;
+import com.vendo.security_starter.jwt.parser.TokenClaims;
+import com.vendo.security_starter.jwt.parser.TokenClaimsParser;
+import com.vendo.user_service.adapter.security.out.props.JwtProperties;
+import com.vendo.user_service.adapter.security.out.props.TokenCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Verifies internal service tokens and remembers the ones that passed.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the raw token, so any change to its header, payload or
+ * signature misses the cache and goes through full verification again. An entry lives until the
+ * token's {@code exp} claim, capped by {@code security.token-cache.max-ttl}; tokens without a
+ * readable expiry are verified on every request.
+ */
+@Component
+public class InternalTokenValidator {
+
+    private final JwtProperties props;
+
+    private final TokenClaimsParser tokenClaimsParser;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public InternalTokenValidator(JwtProperties props,
+                                  TokenClaimsParser tokenClaimsParser,
+                                  ObjectMapper objectMapper,
+                                  TokenCacheProperties cacheProps,
+                                  MeterRegistry meterRegistry) {
+        this.props = props;
+        this.tokenClaimsParser = tokenClaimsParser;
+        this.objectMapper = objectMapper;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheProps.getMaximumSize())
+                .expireAfter(Expiry.creating((String digest, VerifiedToken verified) -> timeToLive(verified, cacheProps.getMaxTtl())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "internal-tokens");
+    }
+
+    public TokenClaims validate(String token) {
+        if (token == null) {
+            return verify(null);
+        }
+
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.claims();
+        }
+
+        TokenClaims claims = verify(token);
+
+        Instant expiresAt = expiresAt(token);
+        if (expiresAt != null && expiresAt.isAfter(Instant.now())) {
+            verifiedTokens.put(digest, new VerifiedToken(claims, expiresAt));
+        }
+        return claims;
+    }
+
+    private TokenClaims verify(String token) {
+        TokenClaims claims = tokenClaimsParser.extract(token, props.getInternal().key());
+
+        if (StringUtils.isEmpty(claims.subject()) || !ServiceName.getAllNames().contains(claims.subject())) {
+            throw new BadCredentialsException("Invalid subject %s.".formatted(claims.subject()));
+        }
+
+        if (CollectionUtils.isEmpty(claims.roles()) || !claims.roles().contains(ServiceRole.INTERNAL.name())) {
+            throw new BadCredentialsException("Invalid roles %s.".formatted(claims.roles()));
+        }
+
+        if (CollectionUtils.isEmpty(claims.audience()) || !claims.audience().contains(ServiceName.USER_SERVICE.getServiceName())) {
+            throw new BadCredentialsException("Invalid audience %s.".formatted(claims.audience()));
+        }
+
+        return claims;
+    }
+
+    /**
+     * Reads {@code exp} from the payload of an already verified token, or returns {@code null} when
+     * the token is not a JWT or carries no expiry.
+     */
+    private Instant expiresAt(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+
+        try {
+            JsonNode exp = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Duration timeToLive(VerifiedToken verified, Duration maxTtl) {
+        Duration untilExpiry = Duration.between(Instant.now(), verified.expiresAt());
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(TokenClaims claims, Instant expiresAt) { }
+}
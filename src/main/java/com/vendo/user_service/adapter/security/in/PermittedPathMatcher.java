@@ -0,0 +1,151 @@
+package com.vendo.user_service.adapter.security.in;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ant-style path patterns compiled for repeated matching. Patterns without wildcards go into a hash
+ * set and {@code /prefix/**} patterns into a character trie, both checked without allocating; the
+ * rest are matched as {@link PathPattern}.
+ */
+public final class PermittedPathMatcher {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private static final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Node prefixes = new Node();
+    private final List<PathPattern> pathPatterns = new ArrayList<>();
+    private final List<String> antPatterns = new ArrayList<>();
+
+    private PermittedPathMatcher() {
+    }
+
+    public static PermittedPathMatcher compile(Collection<String> patterns) {
+        PermittedPathMatcher matcher = new PermittedPathMatcher();
+        if (patterns != null) {
+            patterns.forEach(matcher::add);
+        }
+        return matcher;
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+
+        if (exactPaths.contains(path) || prefixes.matchesPrefixOf(path)) {
+            return true;
+        }
+
+        if (!pathPatterns.isEmpty()) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pattern : pathPatterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+
+        for (String pattern : antPatterns) {
+            if (antPathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(String pattern) {
+        if (pattern == null) {
+            return;
+        }
+
+        if (!antPathMatcher.isPattern(pattern)) {
+            exactPaths.add(pattern);
+            return;
+        }
+
+        if (pattern.endsWith(ANY_SUFFIX)) {
+            String prefix = pattern.substring(0, pattern.length() - ANY_SUFFIX.length());
+            if (!antPathMatcher.isPattern(prefix)) {
+                prefixes.insert(prefix);
+                return;
+            }
+        }
+
+        try {
+            pathPatterns.add(PathPatternParser.defaultInstance.parse(pattern));
+        } catch (PatternParseException e) {
+            // e.g. "**" in the middle of a pattern, which only AntPathMatcher supports
+            antPatterns.add(pattern);
+        }
+    }
+
+    /**
+     * Character trie of {@code /prefix/**} patterns. A terminal node matches the prefix itself and
+     * everything below it, the same way {@link AntPathMatcher} does.
+     */
+    private static final class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        private void insert(String prefix) {
+            Node node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+
+        private boolean matchesPrefixOf(String path) {
+            Node node = this;
+            for (int i = 0; ; i++) {
+                if (node.terminal && (i == path.length() || path.charAt(i) == '/')) {
+                    return true;
+                }
+                if (i == path.length()) {
+                    return false;
+                }
+
+                node = node.child(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+        }
+
+        private Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.vendo.user_service.adapter.security.in;
+
+import com.vendo.security_lib.http.HttpUtils;
+import com.vendo.security_lib.resolver.AntPathResolver;
+import com.vendo.security_starter.jwt.parser.TokenClaims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link InternalFilter}. It is not a bean on purpose: it is only added to the
+ * security filter chain, so WebFlux does not register it a second time as a global filter.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveInternalFilter implements WebFilter {
+
+    private final InternalTokenValidator internalTokenValidator;
+    private final AntPathResolver antPathResolver;
+    private final ServerAuthenticationEntryPoint authenticationEntryPoint;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (antPathResolver.isPermittedPath(exchange.getRequest().getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> context.getAuthentication() != null)
+                .defaultIfEmpty(false)
+                .flatMap(authenticated -> authenticated ? chain.filter(exchange) : authenticate(exchange, chain));
+    }
+
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain) {
+        Authentication authentication;
+        try {
+            String token = HttpUtils.getTokenFrom(exchange.getRequest().getHeaders().getFirst(HttpUtils.AUTHORIZATION_HEADER));
+            TokenClaims claims = internalTokenValidator.validate(token);
+            authentication = new UsernamePasswordAuthenticationToken(
+                    claims.subject(),
+                    null,
+                    claims.roles().stream().map(SimpleGrantedAuthority::new).toList());
+        } catch (AuthenticationException e) {
+            return authenticationEntryPoint.commence(exchange, e);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return authenticationEntryPoint.commence(exchange, new AuthenticationServiceException("Unauthorized."));
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+}
@@ -0,0 +1,72 @@
+package com.vendo.user_service.adapter.security.out.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.security_lib.exception.response.ExceptionResponse;
+import com.vendo.security_lib.resolver.AntPathResolver;
+import com.vendo.user_service.adapter.security.in.InternalTokenValidator;
+import com.vendo.user_service.adapter.security.in.ReactiveInternalFilter;
+import com.vendo.user_service.infrastructure.props.PathProps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final PathProps props;
+
+    private final InternalTokenValidator internalTokenValidator;
+    private final AntPathResolver antPathResolver;
+
+    private final ObjectMapper objectMapper;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        ServerAuthenticationEntryPoint authenticationEntryPoint = unauthorizedEntryPoint();
+
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(ServerHttpSecurity.CorsSpec::disable)
+                .anonymous(ServerHttpSecurity.AnonymousSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(configurer -> configurer.authenticationEntryPoint(authenticationEntryPoint))
+                .authorizeExchange(auth -> auth
+                        .pathMatchers(props.getAllPaths()).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(new ReactiveInternalFilter(internalTokenValidator, antPathResolver, authenticationEntryPoint), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private ServerAuthenticationEntryPoint unauthorizedEntryPoint() {
+        return (exchange, e) -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+            ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                    .message("Unauthorized.")
+                    .code(HttpStatus.UNAUTHORIZED.value())
+                    .path(exchange.getRequest().getPath().value())
+                    .build();
+
+            return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(exceptionResponse))
+                    .flatMap(bytes -> response.writeWith(Mono.just(response.bufferFactory().wrap(bytes))));
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.vendo.user_service.adapter.security.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "security.token-cache")
+public class TokenCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    private Duration maxTtl = Duration.ofMinutes(15);
+
+}
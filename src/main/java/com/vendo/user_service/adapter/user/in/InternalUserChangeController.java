@@ -0,0 +1,83 @@
+package com.vendo.user_service.adapter.user.in;
+
+import com.vendo.user_service.application.exception.ChangeFeedResetException;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.infrastructure.props.ChangeFeedProps;
+import com.vendo.user_service.port.user.UserChangeFeedUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Change feed of user mutations. Consumers keep the token of the last event they processed and
+ * pass it back as {@code since} (or {@code Last-Event-ID}) to continue where they left off.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/users/changes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class InternalUserChangeController {
+
+    private static final String RESET_MESSAGE = "Change feed position lost, resync and subscribe without since.";
+
+    private final UserChangeFeedUseCase userChangeFeed;
+
+    private final ChangeFeedProps props;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter stream(@RequestParam(required = false) String since,
+                      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(props.getSseTimeout().toMillis());
+
+        UserChangeFeedUseCase.Subscription subscription = userChangeFeed.subscribe(
+                since != null ? since : lastEventId,
+                event -> send(emitter, SseEmitter.event().id(event.token()).name("change").data(event)),
+                () -> {
+                    send(emitter, SseEmitter.event().name("reset").data(RESET_MESSAGE));
+                    emitter.complete();
+                });
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * Returns the events after {@code since} right away, or waits up to
+     * {@code users.changes.poll-timeout} for the next one and returns an empty list otherwise.
+     */
+    @GetMapping("/poll")
+    DeferredResult<List<UserChangeEvent>> poll(@RequestParam(required = false) String since) {
+        DeferredResult<List<UserChangeEvent>> result = new DeferredResult<>(props.getPollTimeout().toMillis(), List.of());
+
+        List<UserChangeEvent> pending = userChangeFeed.eventsAfter(since);
+        if (!pending.isEmpty()) {
+            result.setResult(pending);
+            return result;
+        }
+
+        UserChangeFeedUseCase.Subscription subscription = userChangeFeed.subscribe(
+                since,
+                event -> result.setResult(List.of(event)),
+                () -> result.setErrorResult(new ChangeFeedResetException(RESET_MESSAGE)));
+
+        result.onCompletion(subscription::cancel);
+        return result;
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
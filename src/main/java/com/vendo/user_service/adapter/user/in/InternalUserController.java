@@ -1,25 +1,87 @@
 package com.vendo.user_service.adapter.user.in;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.vendo.user_lib.type.ProviderType;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_lib.type.UserStatus;
+import com.vendo.user_service.adapter.user.in.dto.BatchUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.in.json.BinaryObjectMappers;
+import com.vendo.user_service.adapter.user.out.cache.UserResponseCache;
+import com.vendo.user_service.adapter.user.out.persistence.ReadAfter;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserStatus;
 import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchCursor;
+import com.vendo.user_service.application.command.UserSearchPage;
+import com.vendo.user_service.application.command.UserSearchQuery;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
 import com.vendo.user_service.port.user.InternalUserUseCase;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/internal/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class InternalUserController {
 
     private final InternalUserUseCase useCase;
 
+    private final ObjectMapper objectMapper;
+
+    private final BinaryObjectMappers binaryObjectMappers;
+
+    private final UserResponseCache responseCache;
+
+    /**
+     * Serves JSON from the {@link UserResponseCache} with an {@code ETag}, and answers a matching
+     * {@code If-None-Match} with {@code 304} without loading the user when the entry is cached.
+     * Callers negotiating a binary format or sending a {@value ReadAfter#HEADER} token bypass the
+     * cache.
+     */
     @GetMapping(params = "id")
-    ResponseEntity<User> getById(@RequestParam String id) {
-        return ResponseEntity.ok(useCase.getById(id));
+    ResponseEntity<?> getById(@RequestParam String id,
+                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                              @RequestHeader(value = ReadAfter.HEADER, required = false) String readAfter,
+                              WebRequest request) {
+        if (readAfter != null || !acceptsCachedJson(accept)) {
+            return ResponseEntity.ok(useCase.getById(id));
+        }
+
+        UserResponseCache.Entry cached = responseCache.getIfPresent(id);
+        UserResponseCache.Entry response = cached != null ? cached : responseCache.cache(useCase.getById(id));
+
+        if (response.etag() != null && request.checkNotModified(response.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.body());
     }
 
     @GetMapping(params = "email")
@@ -27,18 +89,196 @@ public class InternalUserController {
         return ResponseEntity.ok(useCase.getByEmail(email));
     }
 
+    @GetMapping(params = {"id", "view=summary"})
+    ResponseEntity<UserSummary> getSummaryById(@RequestParam String id) {
+        return ResponseEntity.ok(useCase.getSummaryById(id));
+    }
+
+    @GetMapping(params = {"email", "view=summary"})
+    ResponseEntity<UserSummary> getSummaryByEmail(@RequestParam String email) {
+        return ResponseEntity.ok(useCase.getSummaryByEmail(email));
+    }
+
+    @PostMapping("/batch")
+    ResponseEntity<BatchUserResponse> getBatch(@Valid @RequestBody BatchUserRequest body) {
+        if (body.ids() != null) {
+            return ResponseEntity.ok(useCase.getByIds(body.ids()));
+        }
+        return ResponseEntity.ok(useCase.getByEmails(body.emails()));
+    }
+
+    /**
+     * Imports newline-delimited {@link SaveUserRequest}s and streams one {@link BulkUserResult} line
+     * back per input line, flushed after every chunk.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    void importUsers(@RequestParam(defaultValue = "false") boolean upsert, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        OutputStream out = response.getOutputStream();
+
+        useCase.importUsers(new NdjsonUserReader(reader, objectMapper.reader()), upsert, results -> {
+            results.stream()
+                    .filter(result -> result.status() == BulkUserStatus.UPDATED)
+                    .forEach(result -> responseCache.evictByEmail(result.email()));
+            writeLines(out, results);
+        });
+    }
+
+    /**
+     * Streams matching users as newline-delimited JSON, optionally limited to {@code fields} and to
+     * users updated at or after {@code since}. Callers accepting {@code application/cbor-seq} (or
+     * {@code application/cbor}) or {@code application/x-jackson-smile} get concatenated binary values
+     * instead.
+     */
+    @GetMapping("/export")
+    void exportUsers(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                     @RequestParam(required = false) Set<String> fields,
+                     @RequestParam(required = false) Integer batchSize,
+                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                     HttpServletResponse response) throws IOException {
+        UserExportQuery query = UserExportQuery.builder()
+                .since(since)
+                .fields(fields)
+                .batchSize(batchSize)
+                .build();
+
+        StreamFormat format = streamFormat(accept);
+        response.setContentType(format.contentType().toString());
+        OutputStream out = response.getOutputStream();
+
+        useCase.exportUsers(query, user -> write(out, format, fields == null || fields.isEmpty() ? user : project(user, fields)));
+
+        out.flush();
+    }
+
+    /**
+     * Returns one page of matching users ordered by creation time. Pass the returned {@code next}
+     * back as {@code cursor} to read the following page.
+     */
+    @GetMapping("/search")
+    ResponseEntity<UserSearchPage> search(@RequestParam(required = false) UserStatus status,
+                                          @RequestParam(required = false) Set<UserRole> roles,
+                                          @RequestParam(required = false) Boolean emailVerified,
+                                          @RequestParam(required = false) ProviderType providerType,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit) {
+        UserSearchQuery query = UserSearchQuery.builder()
+                .status(status)
+                .roles(roles)
+                .emailVerified(emailVerified)
+                .providerType(providerType)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .after(UserSearchCursor.decode(cursor))
+                .limit(limit)
+                .build();
+        return ResponseEntity.ok(useCase.search(query));
+    }
+
     @GetMapping("/exists")
     ResponseEntity<ExistsUserResponse> existsByEmail(@RequestParam String email) {
         return ResponseEntity.ok(useCase.existsByEmail(email));
     }
 
     @PutMapping
-    void update(@RequestParam String id, @RequestBody UpdateUserRequest body) {
+    ResponseEntity<Void> update(@RequestParam String id, @RequestBody UpdateUserRequest body) {
         useCase.update(id, body);
+        responseCache.evict(id);
+        return ResponseEntity.ok().headers(readAfter()).build();
     }
 
     @PostMapping
     ResponseEntity<User> save(@Valid @RequestBody SaveUserRequest body) {
-        return ResponseEntity.ok(useCase.save(body));
+        User user = useCase.save(body);
+        return ResponseEntity.ok().headers(readAfter()).body(user);
+    }
+
+    /**
+     * The token of the writes this request made, for the caller to send back on its next reads.
+     */
+    private static HttpHeaders readAfter() {
+        HttpHeaders headers = new HttpHeaders();
+        String token = ReadAfter.written();
+        if (token != null) {
+            headers.set(ReadAfter.HEADER, token);
+        }
+        return headers;
+    }
+
+    private void writeLines(OutputStream out, List<?> values) {
+        values.forEach(value -> writeLine(out, value));
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+
+    private void writeLine(OutputStream out, Object value) {
+        write(out, new StreamFormat(MediaType.APPLICATION_NDJSON, objectMapper, true), value);
+    }
+
+    private static void write(OutputStream out, StreamFormat format, Object value) {
+        try {
+            out.write(format.mapper().writeValueAsBytes(value));
+            if (format.newlineDelimited()) {
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * True when JSON is acceptable and no binary format is named explicitly.
+     */
+    private static boolean acceptsCachedJson(String accept) {
+        if (accept == null) {
+            return true;
+        }
+
+        boolean json = false;
+        for (MediaType type : MediaType.parseMediaTypes(accept)) {
+            if (isBinary(type)) {
+                return false;
+            }
+            json |= type.includes(MediaType.APPLICATION_JSON);
+        }
+        return json;
+    }
+
+    private static boolean isBinary(MediaType type) {
+        return type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)
+                || type.equalsTypeAndSubtype(BinaryObjectMappers.APPLICATION_CBOR_SEQ)
+                || type.equalsTypeAndSubtype(BinaryObjectMappers.APPLICATION_SMILE);
+    }
+
+    /**
+     * Picks a binary format only when the caller names it explicitly; wildcards keep NDJSON.
+     */
+    private StreamFormat streamFormat(String accept) {
+        List<MediaType> accepted = accept != null ? MediaType.parseMediaTypes(accept) : List.of();
+
+        for (MediaType type : accepted) {
+            if (type.equalsTypeAndSubtype(BinaryObjectMappers.APPLICATION_CBOR_SEQ) || type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return new StreamFormat(BinaryObjectMappers.APPLICATION_CBOR_SEQ, binaryObjectMappers.cbor(), false);
+            }
+            if (type.equalsTypeAndSubtype(BinaryObjectMappers.APPLICATION_SMILE)) {
+                return new StreamFormat(BinaryObjectMappers.APPLICATION_SMILE, binaryObjectMappers.smile(), false);
+            }
+        }
+        return new StreamFormat(MediaType.APPLICATION_NDJSON, objectMapper, true);
+    }
+
+    private ObjectNode project(User user, Set<String> fields) {
+        ObjectNode node = objectMapper.valueToTree(user);
+        node.retain(fields);
+        return node;
+    }
+
+    private record StreamFormat(MediaType contentType, ObjectMapper mapper, boolean newlineDelimited) { }
+}
@@ -0,0 +1,71 @@
+package com.vendo.user_service.adapter.user.in;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vendo.core_lib.utils.StringUtils;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.application.command.BulkUserRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads {@link SaveUserRequest} lines one at a time. Blank lines are skipped; a line that is not a
+ * valid request becomes an invalid row instead of failing the whole import.
+ */
+class NdjsonUserReader implements Iterator<BulkUserRow> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+
+    private long lineNumber;
+    private String nextLine;
+
+    NdjsonUserReader(BufferedReader reader, ObjectReader objectReader) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(SaveUserRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public BulkUserRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = nextLine;
+        nextLine = null;
+
+        try {
+            SaveUserRequest request = objectReader.readValue(line);
+            if (StringUtils.isEmpty(request.email())) {
+                return BulkUserRow.invalid(lineNumber, "Email is required.");
+            }
+            return BulkUserRow.of(lineNumber, request);
+        } catch (JsonProcessingException e) {
+            return BulkUserRow.invalid(lineNumber, "Malformed JSON: %s".formatted(e.getOriginalMessage()));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.vendo.user_service.adapter.user.in;
+
+import com.vendo.user_service.adapter.user.in.dto.BatchUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import com.vendo.user_service.port.user.ReactiveInternalUserUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInternalUserController {
+
+    private final ReactiveInternalUserUseCase useCase;
+
+    @GetMapping(params = "id")
+    Mono<User> getById(@RequestParam String id) {
+        return useCase.getById(id);
+    }
+
+    @GetMapping(params = "email")
+    Mono<User> getByEmail(@RequestParam String email) {
+        return useCase.getByEmail(email);
+    }
+
+    @GetMapping(params = {"id", "view=summary"})
+    Mono<UserSummary> getSummaryById(@RequestParam String id) {
+        return useCase.getSummaryById(id);
+    }
+
+    @GetMapping(params = {"email", "view=summary"})
+    Mono<UserSummary> getSummaryByEmail(@RequestParam String email) {
+        return useCase.getSummaryByEmail(email);
+    }
+
+    @PostMapping("/batch")
+    Mono<BatchUserResponse> getBatch(@Valid @RequestBody BatchUserRequest body) {
+        if (body.ids() != null) {
+            return useCase.getByIds(body.ids());
+        }
+        return useCase.getByEmails(body.emails());
+    }
+
+    @GetMapping("/exists")
+    Mono<ExistsUserResponse> existsByEmail(@RequestParam String email) {
+        return useCase.existsByEmail(email);
+    }
+
+    @PutMapping
+    Mono<Void> update(@RequestParam String id, @RequestBody UpdateUserRequest body) {
+        return useCase.update(id, body);
+    }
+
+    @PostMapping
+    Mono<User> save(@Valid @RequestBody SaveUserRequest body) {
+        return useCase.save(body);
+    }
+}
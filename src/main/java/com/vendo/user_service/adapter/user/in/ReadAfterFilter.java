@@ -0,0 +1,30 @@
+package com.vendo.user_service.adapter.user.in;
+
+import com.vendo.user_service.adapter.user.out.persistence.ReadAfter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Scopes the {@value ReadAfter#HEADER} token a caller sent to its request.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ReadAfterFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ReadAfter previous = ReadAfter.enter(request.getHeader(ReadAfter.HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadAfter.exit(previous);
+        }
+    }
+}
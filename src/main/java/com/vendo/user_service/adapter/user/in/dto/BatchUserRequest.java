@@ -0,0 +1,17 @@
+package com.vendo.user_service.adapter.user.in.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchUserRequest(
+        List<String> ids,
+        List<String> emails) {
+
+    @AssertTrue(message = "Exactly one of ids or emails must be provided.")
+    boolean isSingleKeyType() {
+        return (ids == null) != (emails == null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.vendo.user_service.adapter.user.in.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+/**
+ * CBOR and Smile mappers configured like the application's JSON {@link ObjectMapper}. They are held
+ * here rather than exposed as {@link ObjectMapper} beans, which would replace Boot's JSON mapper.
+ */
+public record BinaryObjectMappers(ObjectMapper cbor, ObjectMapper smile) {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * Concatenated CBOR items (RFC 8742), used for streamed responses.
+     */
+    public static final MediaType APPLICATION_CBOR_SEQ = MediaType.parseMediaType("application/cbor-seq");
+
+}
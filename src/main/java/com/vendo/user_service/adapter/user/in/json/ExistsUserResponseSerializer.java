@@ -0,0 +1,29 @@
+package com.vendo.user_service.adapter.user.in.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link ExistsUserResponse} with a pre-encoded field name.
+ */
+class ExistsUserResponseSerializer extends StdSerializer<ExistsUserResponse> {
+
+    private static final SerializedString EXISTS = new SerializedString("exists");
+
+    ExistsUserResponseSerializer() {
+        super(ExistsUserResponse.class);
+    }
+
+    @Override
+    public void serialize(ExistsUserResponse response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+        gen.writeFieldName(EXISTS);
+        gen.writeBoolean(response.exists());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,101 @@
+package com.vendo.user_service.adapter.user.in.json;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Formats dates the way Jackson's defaults do ({@link java.time.format.DateTimeFormatter#ISO_INSTANT}
+ * and {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}) into a caller-supplied buffer,
+ * without the formatter's intermediate objects. Years outside {@code 0000-9999} are not handled and
+ * return {@code -1}, so the caller can fall back to {@code toString()}.
+ */
+final class IsoTimes {
+
+    /**
+     * Longest output: {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ}.
+     */
+    static final int MAX_LENGTH = 30;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long MAX_SECOND = 253_402_300_799L;
+
+    private IsoTimes() {
+    }
+
+    static int formatInstant(Instant instant, char[] buffer) {
+        long seconds = instant.getEpochSecond();
+        if (seconds < -62_167_219_200L || seconds > MAX_SECOND) {
+            return -1;
+        }
+
+        long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        int pos = formatDate(days, buffer);
+        buffer[pos++] = 'T';
+        pos = digits2(secondOfDay / 3600, buffer, pos);
+        buffer[pos++] = ':';
+        pos = digits2(secondOfDay / 60 % 60, buffer, pos);
+        buffer[pos++] = ':';
+        pos = digits2(secondOfDay % 60, buffer, pos);
+
+        int nano = instant.getNano();
+        if (nano != 0) {
+            buffer[pos++] = '.';
+            if (nano % 1_000_000 == 0) {
+                pos = digits(nano / 1_000_000, 3, buffer, pos);
+            } else if (nano % 1_000 == 0) {
+                pos = digits(nano / 1_000, 6, buffer, pos);
+            } else {
+                pos = digits(nano, 9, buffer, pos);
+            }
+        }
+
+        buffer[pos++] = 'Z';
+        return pos;
+    }
+
+    static int formatLocalDate(LocalDate date, char[] buffer) {
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return -1;
+        }
+        return formatDate(date.toEpochDay(), buffer);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd} for an epoch day, using the proleptic Gregorian civil-from-days
+     * conversion, and returns the end position.
+     */
+    private static int formatDate(long epochDay, char[] buffer) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int pos = digits(year, 4, buffer, 0);
+        buffer[pos++] = '-';
+        pos = digits2(month, buffer, pos);
+        buffer[pos++] = '-';
+        return digits2(day, buffer, pos);
+    }
+
+    private static int digits2(int value, char[] buffer, int pos) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static int digits(int value, int width, char[] buffer, int pos) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,35 @@
+package com.vendo.user_service.adapter.user.in.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the hand-written serializers for the hottest response types. Spring Boot adds every
+ * {@link com.fasterxml.jackson.databind.Module} bean to the application's {@code ObjectMapper}, so
+ * both the servlet and reactive stacks use them.
+ */
+@Component
+public class UserJsonModule extends SimpleModule {
+
+    public UserJsonModule() {
+        super("UserJsonModule");
+        addSerializer(ExistsUserResponse.class, new ExistsUserResponseSerializer());
+        setSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() == User.class) {
+                    return new UserSerializer((JsonSerializer<Object>) serializer);
+                }
+                return serializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,192 @@
+package com.vendo.user_service.adapter.user.in.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.vendo.user_lib.type.ProviderType;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_lib.type.UserStatus;
+import com.vendo.user_service.domain.user.User;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Writes {@link User} field by field instead of through reflective bean serialization. Field names
+ * and enum constants are pre-encoded {@link SerializedString}s, and dates are formatted by
+ * {@link IsoTimes} into one scratch buffer per user. The output is byte-for-byte what the default
+ * serializer writes with Jackson's defaults.
+ * <p>
+ * Settings that change that output, such as numeric dates, an explicit time zone or a non-default
+ * property inclusion, are delegated to the default serializer.
+ */
+class UserSerializer extends StdSerializer<User> implements ContextualSerializer, ResolvableSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString EMAIL_VERIFIED = new SerializedString("emailVerified");
+    private static final SerializedString ROLES = new SerializedString("roles");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PROVIDER_TYPE = new SerializedString("providerType");
+    private static final SerializedString PASSWORD = new SerializedString("password");
+    private static final SerializedString BIRTH_DATE = new SerializedString("birthDate");
+    private static final SerializedString FULL_NAME = new SerializedString("fullName");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializedString[] ROLE_NAMES = names(UserRole.values());
+    private static final SerializedString[] STATUS_NAMES = names(UserStatus.values());
+    private static final SerializedString[] PROVIDER_TYPE_NAMES = names(ProviderType.values());
+
+    private final JsonSerializer<Object> defaultSerializer;
+
+    UserSerializer(JsonSerializer<Object> defaultSerializer) {
+        super(User.class);
+        this.defaultSerializer = defaultSerializer;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (defaultSerializer instanceof ContextualSerializer contextual) {
+            return new UserSerializer((JsonSerializer<Object>) contextual.createContextual(provider, property));
+        }
+        return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public void serializeWithType(User user, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        defaultSerializer.serializeWithType(user, gen, provider, typeSer);
+    }
+
+    @Override
+    public void serialize(User user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!hasDefaultFormat(provider)) {
+            defaultSerializer.serialize(user, gen, provider);
+            return;
+        }
+
+        char[] buffer = new char[IsoTimes.MAX_LENGTH];
+
+        gen.writeStartObject(user);
+        gen.writeFieldName(ID);
+        writeString(gen, user.getId());
+        gen.writeFieldName(EMAIL);
+        writeString(gen, user.getEmail());
+        gen.writeFieldName(EMAIL_VERIFIED);
+        gen.writeBoolean(user.isEmailVerified());
+        gen.writeFieldName(ROLES);
+        writeRoles(gen, user.getRoles());
+        gen.writeFieldName(STATUS);
+        writeName(gen, user.getStatus(), STATUS_NAMES);
+        gen.writeFieldName(PROVIDER_TYPE);
+        writeName(gen, user.getProviderType(), PROVIDER_TYPE_NAMES);
+        gen.writeFieldName(PASSWORD);
+        writeString(gen, user.getPassword());
+        gen.writeFieldName(BIRTH_DATE);
+        writeLocalDate(gen, user.getBirthDate(), buffer);
+        gen.writeFieldName(FULL_NAME);
+        writeString(gen, user.getFullName());
+        gen.writeFieldName(CREATED_AT);
+        writeInstant(gen, user.getCreatedAt(), buffer);
+        gen.writeFieldName(UPDATED_AT);
+        writeInstant(gen, user.getUpdatedAt(), buffer);
+        gen.writeEndObject();
+    }
+
+    private static boolean hasDefaultFormat(SerializerProvider provider) {
+        SerializationConfig config = provider.getConfig();
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(User.class).getValueInclusion();
+
+        return !config.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
+                && !config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                && !config.hasExplicitTimeZone()
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS)
+                && provider.getActiveView() == null;
+    }
+
+    private static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeRoles(JsonGenerator gen, Set<UserRole> roles) throws IOException {
+        if (roles == null) {
+            gen.writeNull();
+            return;
+        }
+
+        gen.writeStartArray(roles, roles.size());
+        for (UserRole role : roles) {
+            writeName(gen, role, ROLE_NAMES);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeName(JsonGenerator gen, Enum<?> value, SerializedString[] names) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    private static void writeLocalDate(JsonGenerator gen, LocalDate date, char[] buffer) throws IOException {
+        if (date == null) {
+            gen.writeNull();
+            return;
+        }
+
+        int length = IsoTimes.formatLocalDate(date, buffer);
+        if (length < 0) {
+            gen.writeString(date.toString());
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    private static void writeInstant(JsonGenerator gen, Instant instant, char[] buffer) throws IOException {
+        if (instant == null) {
+            gen.writeNull();
+            return;
+        }
+
+        int length = IsoTimes.formatInstant(instant, buffer);
+        if (length < 0) {
+            gen.writeString(instant.toString());
+        } else {
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    private static SerializedString[] names(Enum<?>[] constants) {
+        SerializedString[] names = new SerializedString[constants.length];
+        for (Enum<?> constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,156 @@
+package com.vendo.user_service.adapter.user.out.cache;
+
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.adapter.user.out.persistence.UserRepository;
+import com.vendo.user_service.adapter.user.out.props.EmailFilterProperties;
+import com.vendo.user_service.domain.user.UserEmails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every registered email, in normalized form. Until the first build completes, or
+ * when the filter is disabled, every email is reported as a possible match.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailFilter {
+
+    private final EmailFilterProperties props;
+
+    private final UserRepository userRepository;
+
+    private volatile Bits current;
+    private volatile Bits building;
+
+    public boolean mightContain(String email) {
+        Bits bits = current;
+        return bits == null || bits.mightContain(UserEmails.normalize(email));
+    }
+
+    /**
+     * Reads {@code building} before {@code current}: a rebuild publishes {@code current} before it
+     * clears {@code building}, so one of the two reads always sees the filter that survives it.
+     */
+    public void put(String email) {
+        String normalized = UserEmails.normalize(email);
+
+        Bits next = building;
+        Bits bits = current;
+
+        if (next != null) {
+            next.put(normalized);
+        }
+        if (bits != null && bits != next) {
+            bits.put(normalized);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "#{@emailFilterProperties.rebuildInterval.toMillis()}")
+    public void rebuild() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        try {
+            long expectedInsertions = Math.max(props.getExpectedInsertions(), userRepository.count());
+            Bits next = new Bits(expectedInsertions, props.getFalsePositiveProbability());
+            building = next;
+
+            long count = 0;
+            try (Stream<MongoUser> users = userRepository.streamAllEmails()) {
+                Iterator<MongoUser> iterator = users.iterator();
+                while (iterator.hasNext()) {
+                    next.put(UserEmails.normalize(iterator.next().getEmail()));
+                    count++;
+                }
+            }
+
+            current = next;
+            log.info("Email filter rebuilt with {} emails.", count);
+        } catch (Exception e) {
+            log.warn("Email filter rebuild failed: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+
+        private Bits(long expectedInsertions, double falsePositiveProbability) {
+            long n = Math.max(1, expectedInsertions);
+            long bits = (long) (-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+
+            this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) >>> 6));
+            this.size = (long) words.length() << 6;
+            this.hashes = (int) Math.max(1, Math.round((double) size / n * Math.log(2)));
+        }
+
+        private void put(String email) {
+            if (email == null) {
+                return;
+            }
+
+            long hash = hash(email);
+            long h1 = mix(hash);
+            long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, size);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+
+                long value;
+                do {
+                    value = words.get(word);
+                } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        private boolean mightContain(String email) {
+            if (email == null) {
+                return false;
+            }
+
+            long hash = hash(email);
+            long h1 = mix(hash);
+            long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, size);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb93e53ba0d8dL;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.vendo.user_service.adapter.user.out.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical lookups into a single database call. Callers arriving while a load
+ * for the same key is in flight get its result or its exception, which may predate a write that
+ * finished meanwhile. Nothing is kept once the call completes. Counted as {@code users.lookups} by
+ * {@code lookup} and {@code outcome} ({@code executed} or {@code coalesced}).
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final ConcurrentMap<Call, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Call, Mono<Object>> inFlightMonos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String lookup, Object key, Supplier<V> loader) {
+        Call call = new Call(lookup, key);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(call, own);
+        Counters lookupCounters = counters.computeIfAbsent(lookup, this::register);
+
+        if (existing != null) {
+            lookupCounters.coalesced().increment();
+            return (V) await(existing);
+        }
+
+        lookupCounters.executed().increment();
+        try {
+            V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(call, own);
+        }
+    }
+
+    /**
+     * Reactive counterpart of {@link #execute}: subscribers arriving while a load for the same key is
+     * in flight share its result instead of subscribing to their own query.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Mono<V> share(String lookup, Object key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Call call = new Call(lookup, key);
+            Counters lookupCounters = counters.computeIfAbsent(lookup, this::register);
+
+            AtomicReference<Mono<Object>> own = new AtomicReference<>();
+            own.set(Mono.defer(() -> (Mono<Object>) loader.get())
+                    .doFinally(signal -> inFlightMonos.remove(call, own.get()))
+                    .cache());
+
+            Mono<Object> existing = inFlightMonos.putIfAbsent(call, own.get());
+            if (existing != null) {
+                lookupCounters.coalesced().increment();
+                return (Mono<V>) existing;
+            }
+
+            lookupCounters.executed().increment();
+            return (Mono<V>) own.get();
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counters register(String lookup) {
+        return new Counters(counter(lookup, "executed"), counter(lookup, "coalesced"));
+    }
+
+    private Counter counter(String lookup, String outcome) {
+        return Counter.builder("users.lookups")
+                .description("User lookups by whether they reached the database or joined an identical one in flight")
+                .tag("lookup", lookup)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Call(String lookup, Object key) { }
+
+    private record Counters(Counter executed, Counter coalesced) { }
+}
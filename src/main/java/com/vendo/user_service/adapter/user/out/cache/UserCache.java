@@ -0,0 +1,271 @@
+package com.vendo.user_service.adapter.user.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import com.vendo.user_service.domain.user.UserSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of {@link User} keyed by id, with a secondary email index.
+ * <p>
+ * The email index is keyed by the normalized email and only holds the user id. A mapping is
+ * written after the entry it points to and dropped only when neither cache holds the id any more,
+ * so every cached user and summary can be found by email.
+ * <p>
+ * Loaded values are only inserted when absent, so a load racing with an update cannot overwrite
+ * the state the writer puts through {@link #put(User)}.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<String, User> usersById;
+    private final Cache<String, UserSummary> summariesById;
+    private final ConcurrentMap<String, String> idsByEmail = new ConcurrentHashMap<>();
+
+    private final UserMapper userMapper;
+
+    public UserCache(UserCacheProperties props, MeterRegistry meterRegistry, UserMapper userMapper) {
+        this.usersById = buildCache(props, this::onUserEvicted);
+        this.summariesById = buildCache(props, this::onSummaryEvicted);
+        this.userMapper = userMapper;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, summariesById, "user-summaries");
+    }
+
+    public User getById(String id, Function<String, User> loader) {
+        User cached = getIfPresent(id);
+        return cached != null ? cached : cache(loader.apply(id));
+    }
+
+    public User getByEmail(String email, Function<String, User> loader) {
+        User cached = getIfPresentByEmail(email);
+        return cached != null ? cached : cache(loader.apply(email));
+    }
+
+    public UserSummary getSummaryById(String id, Function<String, UserSummary> loader) {
+        UserSummary cached = getSummaryIfPresent(id);
+        return cached != null ? cached : cacheSummary(loader.apply(id));
+    }
+
+    public UserSummary getSummaryByEmail(String email, Function<String, UserSummary> loader) {
+        UserSummary cached = getSummaryIfPresentByEmail(email);
+        return cached != null ? cached : cacheSummary(loader.apply(email));
+    }
+
+    /**
+     * Returns the cached users and loads every missing id with a single call to {@code loader}.
+     * Ids unknown to the loader are absent from the result.
+     */
+    public Map<String, User> getAllById(Collection<String> ids, Function<Set<String>, Map<String, User>> loader) {
+        Map<String, User> users = new HashMap<>(usersById.getAllPresent(ids));
+
+        Set<String> missing = new HashSet<>(ids);
+        missing.removeAll(users.keySet());
+
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach((id, loaded) -> users.put(id, cache(loaded)));
+        }
+        return users;
+    }
+
+    /**
+     * Returns the cached users keyed by the requested emails and loads every missing email with a
+     * single call to {@code loader}, which receives and is keyed by normalized emails. Emails unknown
+     * to the loader are absent from the result.
+     */
+    public Map<String, User> getAllByEmail(Collection<String> emails, Function<Set<String>, Map<String, User>> loader) {
+        Map<String, User> users = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+
+        for (String email : emails) {
+            User cached = getIfPresentByEmail(email);
+            if (cached != null) {
+                users.put(email, cached);
+            } else {
+                missing.add(email);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Set<String> normalized = new HashSet<>();
+            missing.forEach(email -> normalized.add(UserEmails.normalize(email)));
+
+            Map<String, User> loaded = loader.apply(normalized);
+            for (String email : missing) {
+                User user = loaded.get(UserEmails.normalize(email));
+                if (user != null) {
+                    users.put(email, cache(user));
+                }
+            }
+        }
+        return users;
+    }
+
+    public User getIfPresent(String id) {
+        return usersById.getIfPresent(id);
+    }
+
+    public User getIfPresentByEmail(String email) {
+        String id = idsByEmail.get(UserEmails.normalize(email));
+        return id != null ? usersById.getIfPresent(id) : null;
+    }
+
+    public UserSummary getSummaryIfPresent(String id) {
+        User cached = usersById.asMap().get(id);
+        return cached != null ? userMapper.toUserSummary(cached) : summariesById.getIfPresent(id);
+    }
+
+    public UserSummary getSummaryIfPresentByEmail(String email) {
+        String id = idsByEmail.get(UserEmails.normalize(email));
+        return id != null ? getSummaryIfPresent(id) : null;
+    }
+
+    /**
+     * Caches a freshly loaded user unless an entry already exists, and returns the cached value.
+     */
+    public User cache(User loaded) {
+        User cached = putIfAbsent(usersById, loaded.getId(), loaded);
+        linkEmail(loaded.getEmail(), loaded.getId());
+        return cached;
+    }
+
+    /**
+     * Caches a freshly loaded summary unless an entry already exists, and returns the cached value.
+     */
+    public UserSummary cacheSummary(UserSummary loaded) {
+        UserSummary cached = putIfAbsent(summariesById, loaded.getId(), loaded);
+        linkEmail(loaded.getEmail(), loaded.getId());
+        return cached;
+    }
+
+    /**
+     * Replaces both keys with the state a write just stored, whatever is cached.
+     */
+    public void put(User user) {
+        usersById.put(user.getId(), user);
+        summariesById.put(user.getId(), userMapper.toUserSummary(user));
+        linkEmail(user.getEmail(), user.getId());
+        unlinkEmail(user.getId(), user.getEmail(), usersById, summariesById);
+    }
+
+    public void evict(String id) {
+        String email = emailOf(id);
+
+        usersById.invalidate(id);
+        summariesById.invalidate(id);
+
+        if (email != null) {
+            unlinkEmail(id, email, usersById, summariesById);
+        }
+    }
+
+    /**
+     * Evicts {@code id} unless the cached state has exactly {@code updatedAt}, which is the case when
+     * this instance made the change itself. {@code updatedAt} comes from the writer's clock, so a later
+     * cached value does not prove the cached state is newer. A {@code null} version always evicts.
+     */
+    public void evictUnlessCurrent(String id, Instant updatedAt) {
+        String email = emailOf(id);
+
+        usersById.asMap().computeIfPresent(id, (key, cached) -> isCurrent(cached.getUpdatedAt(), updatedAt) ? cached : null);
+        summariesById.asMap().computeIfPresent(id, (key, cached) -> isCurrent(cached.getUpdatedAt(), updatedAt) ? cached : null);
+
+        if (email != null) {
+            unlinkEmail(id, email, usersById, summariesById);
+        }
+    }
+
+    public void evictAll() {
+        usersById.invalidateAll();
+        summariesById.invalidateAll();
+        idsByEmail.keySet().forEach(email -> idsByEmail.computeIfPresent(email, (key, id) -> isHeld(id, usersById, summariesById) ? id : null));
+    }
+
+    public void evictByEmail(String email) {
+        String id = idsByEmail.get(UserEmails.normalize(email));
+        if (id != null) {
+            evict(id);
+        }
+    }
+
+    private String emailOf(String id) {
+        User user = usersById.asMap().get(id);
+        if (user != null) {
+            return user.getEmail();
+        }
+        UserSummary summary = summariesById.asMap().get(id);
+        return summary != null ? summary.getEmail() : null;
+    }
+
+    private void linkEmail(String email, String id) {
+        idsByEmail.put(UserEmails.normalize(email), id);
+    }
+
+    /**
+     * Eviction listeners run while the evicted entry is still visible in its own cache, so they
+     * only consult the other one.
+     */
+    private void onUserEvicted(String id, User user) {
+        unlinkEmail(id, user.getEmail(), summariesById);
+    }
+
+    private void onSummaryEvicted(String id, UserSummary summary) {
+        unlinkEmail(id, summary.getEmail(), usersById);
+    }
+
+    /**
+     * Drops the mapping unless one of {@code holders} still caches {@code id}. Writers link after
+     * inserting, so a mapping is never dropped under a freshly cached entry.
+     */
+    @SafeVarargs
+    private void unlinkEmail(String id, String email, Cache<String, ?>... holders) {
+        idsByEmail.computeIfPresent(UserEmails.normalize(email), (key, mapped) ->
+                mapped.equals(id) && !isHeld(id, holders) ? null : mapped);
+    }
+
+    @SafeVarargs
+    private static boolean isHeld(String id, Cache<String, ?>... holders) {
+        for (Cache<String, ?> holder : holders) {
+            if (holder.asMap().containsKey(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCurrent(Instant cachedUpdatedAt, Instant updatedAt) {
+        return cachedUpdatedAt != null && cachedUpdatedAt.equals(updatedAt);
+    }
+
+    private static <V> V putIfAbsent(Cache<String, V> cache, String key, V loaded) {
+        V existing = cache.asMap().putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static <V> Cache<String, V> buildCache(UserCacheProperties props, BiConsumer<String, V> onEviction) {
+        return Caffeine.newBuilder()
+                .maximumSize(props.getMaximumSize())
+                .expireAfterWrite(props.getTtl())
+                .<String, V>evictionListener((id, value, cause) -> onEviction.accept(id, value))
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.vendo.user_service.adapter.user.out.cache;
+
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.domain.user.UserChangeType;
+import com.vendo.user_service.port.user.UserChangeFeedUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Applies changes made by any instance, read from the change feed, to this instance's
+ * {@link UserCache}, {@link UserResponseCache} and {@link EmailFilter}. When the subscription loses
+ * events, both caches are dropped.
+ */
+@Slf4j
+@Component
+public class UserCacheInvalidator implements SmartLifecycle {
+
+    private final UserChangeFeedUseCase userChangeFeed;
+    private final UserCache userCache;
+    private final UserResponseCache responseCache;
+    private final EmailFilter emailFilter;
+
+    private final Timer invalidationLag;
+    private final Counter resets;
+
+    private volatile UserChangeFeedUseCase.Subscription subscription;
+
+    public UserCacheInvalidator(UserChangeFeedUseCase userChangeFeed, UserCache userCache, UserResponseCache responseCache,
+                                 EmailFilter emailFilter, MeterRegistry meterRegistry) {
+        this.userChangeFeed = userChangeFeed;
+        this.userCache = userCache;
+        this.responseCache = responseCache;
+        this.emailFilter = emailFilter;
+        this.invalidationLag = Timer.builder("users.cache.invalidation.lag")
+                .description("Time from a user write to its eviction from this instance's cache")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.resets = Counter.builder("users.cache.invalidation.resets")
+                .description("Times the cache was dropped because invalidation events were lost")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        subscription = userChangeFeed.subscribe(null, this::onChange, this::onReset);
+    }
+
+    @Override
+    public void stop() {
+        UserChangeFeedUseCase.Subscription current = subscription;
+        subscription = null;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+
+    private void onChange(UserChangeEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+
+        if (event.changedFields() != null && event.changedFields().get("email") instanceof String email) {
+            emailFilter.put(email);
+        }
+
+        if (event.type() == UserChangeType.DELETE) {
+            userCache.evict(event.userId());
+            responseCache.evict(event.userId());
+        } else {
+            userCache.evictUnlessCurrent(event.userId(), event.updatedAt());
+            responseCache.evictUnlessCurrent(event.userId(), event.updatedAt());
+        }
+
+        if (event.occurredAt() != null) {
+            invalidationLag.record(Duration.between(event.occurredAt(), Instant.now()));
+        }
+    }
+
+    private void onReset() {
+        log.warn("User cache invalidation fell behind, dropping the local cache.");
+        resets.increment();
+        userCache.evictAll();
+        responseCache.evictAll();
+
+        if (subscription != null) {
+            subscription = userChangeFeed.subscribe(null, this::onChange, this::onReset);
+        }
+    }
+}
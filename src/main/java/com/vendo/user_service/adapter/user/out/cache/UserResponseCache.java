@@ -0,0 +1,161 @@
+package com.vendo.user_service.adapter.user.out.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vendo.user_service.adapter.user.out.props.UserResponseCacheProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Serialized JSON of {@link User} responses keyed by id, each with an {@code ETag} derived from the
+ * id and {@code updatedAt}. Loads are only kept when absent and while {@link UserCache} holds the same
+ * version, so a read racing with a local write cannot cache the state it replaced.
+ * Writes through this instance are evicted by the controller, and writes anywhere by
+ * {@link UserCacheInvalidator}. Users without {@code updatedAt} are serialized but never cached.
+ */
+@Component
+public class UserResponseCache {
+
+    private final Cache<String, Entry> responsesById;
+    private final ConcurrentMap<String, String> idsByEmail = new ConcurrentHashMap<>();
+
+    private final UserResponseCacheProperties props;
+
+    private final UserCache userCache;
+
+    private final ObjectMapper objectMapper;
+
+    public UserResponseCache(UserResponseCacheProperties props, MeterRegistry meterRegistry, UserCache userCache, ObjectMapper objectMapper) {
+        this.responsesById = buildCache(props, this::onEvicted);
+        this.props = props;
+        this.userCache = userCache;
+        this.objectMapper = objectMapper;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responsesById, "user-responses");
+    }
+
+    public Entry getIfPresent(String id) {
+        return responsesById.getIfPresent(id);
+    }
+
+    /**
+     * Serializes a freshly loaded user and caches it unless an entry already exists. Returns the
+     * cached entry, which may be a newer version than {@code loaded}.
+     * <p>
+     * Writers update {@link UserCache} before evicting here, so an entry inserted after that eviction
+     * sees the written version, or no version, below and is dropped again.
+     */
+    public Entry cache(User loaded) {
+        Entry entry = serialize(loaded);
+        if (!props.isEnabled() || entry.updatedAt() == null) {
+            return entry;
+        }
+
+        Entry existing = responsesById.asMap().putIfAbsent(loaded.getId(), entry);
+        if (existing != null) {
+            return existing;
+        }
+
+        idsByEmail.put(entry.email(), loaded.getId());
+        User current = userCache.getIfPresent(loaded.getId());
+        if (current == null || !entry.updatedAt().equals(current.getUpdatedAt())) {
+            evict(loaded.getId(), entry);
+        }
+        return entry;
+    }
+
+    public void evict(String id) {
+        Entry evicted = responsesById.asMap().remove(id);
+        if (evicted != null) {
+            unlinkEmail(id, evicted);
+        }
+    }
+
+    /**
+     * Evicts {@code id} unless the cached entry has exactly {@code updatedAt}. A {@code null} version
+     * always evicts.
+     */
+    public void evictUnlessCurrent(String id, Instant updatedAt) {
+        Entry cached = responsesById.getIfPresent(id);
+        if (cached != null && !cached.updatedAt().equals(updatedAt)) {
+            evict(id, cached);
+        }
+    }
+
+    public void evictAll() {
+        responsesById.invalidateAll();
+        idsByEmail.keySet().forEach(email -> idsByEmail.computeIfPresent(email, (key, id) -> responsesById.asMap().containsKey(id) ? id : null));
+    }
+
+    public void evictByEmail(String email) {
+        String id = idsByEmail.get(UserEmails.normalize(email));
+        if (id != null) {
+            evict(id);
+        }
+    }
+
+    private void evict(String id, Entry entry) {
+        if (responsesById.asMap().remove(id, entry)) {
+            unlinkEmail(id, entry);
+        }
+    }
+
+    /**
+     * Eviction listeners run while the evicted entry is still visible, and block inserts of the same
+     * id until they return.
+     */
+    private void onEvicted(String id, Entry entry) {
+        idsByEmail.remove(entry.email(), id);
+    }
+
+    /**
+     * Drops the mapping unless {@code id} is cached again. Writers link after inserting, so a mapping
+     * is never dropped under a freshly cached entry.
+     */
+    private void unlinkEmail(String id, Entry entry) {
+        idsByEmail.computeIfPresent(entry.email(), (key, mapped) ->
+                mapped.equals(id) && !responsesById.asMap().containsKey(id) ? null : mapped);
+    }
+
+    /**
+     * A strong validator: the bytes of one version never change, and Mongo stores {@code updatedAt}
+     * with millisecond precision, so a user read back from the database keeps its tag.
+     */
+    private static String etag(User user) {
+        return user.getUpdatedAt() != null ? "\"" + user.getId() + "-" + user.getUpdatedAt().toEpochMilli() + "\"" : null;
+    }
+
+    private Entry serialize(User user) {
+        try {
+            return new Entry(etag(user), user.getUpdatedAt(), UserEmails.normalize(user.getEmail()), objectMapper.writeValueAsBytes(user));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Cache<String, Entry> buildCache(UserResponseCacheProperties props, BiConsumer<String, Entry> onEviction) {
+        return Caffeine.newBuilder()
+                .maximumSize(props.getMaximumSize())
+                .expireAfterWrite(props.getTtl())
+                .<String, Entry>evictionListener((id, entry, cause) -> onEviction.accept(id, entry))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The serialized JSON of one version of a user and its {@code ETag}, or a {@code null} tag when
+     * the user has no {@code updatedAt}. {@code email} is normalized.
+     */
+    public record Entry(String etag, Instant updatedAt, String email, byte[] body) { }
+}
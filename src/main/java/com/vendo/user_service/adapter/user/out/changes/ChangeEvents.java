@@ -0,0 +1,95 @@
+package com.vendo.user_service.adapter.user.out.changes;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.domain.user.UserChangeType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps change stream documents of the user collection to {@link UserChangeEvent}s. Credentials and
+ * mapping metadata are never published.
+ */
+final class ChangeEvents {
+
+    private static final Set<String> HIDDEN_FIELDS = Set.of("_id", "_class", "password", "normalizedEmail");
+
+    private ChangeEvents() {
+    }
+
+    static UserChangeEvent toEvent(ChangeStreamDocument<BsonDocument> change) {
+        UserChangeType type = UserChangeType.valueOf(change.getOperationType().name());
+
+        Map<String, Object> changedFields = Map.of();
+        List<String> removedFields = List.of();
+
+        UpdateDescription updateDescription = change.getUpdateDescription();
+        if (type == UserChangeType.UPDATE && updateDescription != null) {
+            changedFields = toMap(updateDescription.getUpdatedFields());
+            removedFields = updateDescription.getRemovedFields() != null ? updateDescription.getRemovedFields() : List.of();
+        } else if (change.getFullDocument() != null) {
+            changedFields = toMap(change.getFullDocument());
+        }
+
+        return UserChangeEvent.builder()
+                .token(change.getResumeToken().getString("_data").getValue())
+                .userId(change.getDocumentKey() != null ? (String) toJava(change.getDocumentKey().get("_id")) : null)
+                .type(type)
+                .changedFields(changedFields)
+                .removedFields(removedFields)
+                .updatedAt(changedFields.get("updatedAt") instanceof Instant updatedAt ? updatedAt : null)
+                .occurredAt(occurredAt(change))
+                .build();
+    }
+
+    private static Instant occurredAt(ChangeStreamDocument<BsonDocument> change) {
+        if (change.getWallTime() != null) {
+            return Instant.ofEpochMilli(change.getWallTime().getValue());
+        }
+        return change.getClusterTime() != null ? Instant.ofEpochSecond(change.getClusterTime().getTime()) : null;
+    }
+
+    private static Map<String, Object> toMap(BsonDocument document) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (document != null) {
+            document.forEach((key, value) -> {
+                if (!HIDDEN_FIELDS.contains(key)) {
+                    fields.put(key, toJava(value));
+                }
+            });
+        }
+        return fields;
+    }
+
+    private static Object toJava(BsonValue value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+
+        return switch (value.getBsonType()) {
+            case STRING -> value.asString().getValue();
+            case OBJECT_ID -> value.asObjectId().getValue().toHexString();
+            case BOOLEAN -> value.asBoolean().getValue();
+            case INT32 -> value.asInt32().getValue();
+            case INT64 -> value.asInt64().getValue();
+            case DOUBLE -> value.asDouble().getValue();
+            case DECIMAL128 -> value.asDecimal128().getValue().bigDecimalValue();
+            case DATE_TIME -> Instant.ofEpochMilli(value.asDateTime().getValue());
+            case ARRAY -> {
+                List<Object> values = new ArrayList<>();
+                value.asArray().forEach(item -> values.add(toJava(item)));
+                yield values;
+            }
+            case DOCUMENT -> toMap(value.asDocument());
+            default -> value.toString();
+        };
+    }
+}
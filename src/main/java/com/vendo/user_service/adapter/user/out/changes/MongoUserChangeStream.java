@@ -0,0 +1,181 @@
+package com.vendo.user_service.adapter.user.out.changes;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.infrastructure.props.ChangeFeedProps;
+import com.vendo.user_service.port.user.UserChangeFeedUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails a change stream on the user collection and publishes every mutation to the change feed.
+ * Each instance saves its resume token in {@value #TOKEN_COLLECTION} under its consumer id, at most
+ * every {@code users.changes.token-save-interval}, so a crash can replay up to one interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "users.changes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MongoUserChangeStream implements SmartLifecycle {
+
+    static final String TOKEN_COLLECTION = "changeStreamTokens";
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final UserChangeFeedUseCase userChangeFeed;
+
+    private final ChangeFeedProps props;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    private String consumerId;
+    private BsonDocument resumeToken;
+    private boolean tokenSaved = true;
+    private long tokenSavedAt;
+
+    @Override
+    public void start() {
+        consumerId = resolveConsumerId();
+        tokenSavedAt = System.nanoTime();
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("user-change-stream").start(this::tail);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tail() {
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor = open()) {
+                while (running) {
+                    ChangeStreamDocument<BsonDocument> change = cursor.tryNext();
+                    if (change != null) {
+                        userChangeFeed.publish(ChangeEvents.toEvent(change));
+                        resumeToken = change.getResumeToken();
+                        tokenSaved = false;
+                    }
+                    if (!tokenSaved && System.nanoTime() - tokenSavedAt >= props.getTokenSaveInterval().toNanos()) {
+                        saveToken();
+                    }
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Stored resume token is no longer in the oplog, the change feed restarts from now.");
+                    resumeToken = null;
+                    tokenSaved = true;
+                    deleteToken();
+                } else {
+                    log.warn("User change stream interrupted, retrying in {}: {}", props.getRetryInterval(), e.getMessage());
+                    sleep();
+                }
+            } catch (MongoException e) {
+                log.warn("User change stream interrupted, retrying in {}: {}", props.getRetryInterval(), e.getMessage());
+                sleep();
+            } catch (RuntimeException e) {
+                log.error("User change stream failed, retrying in {}", props.getRetryInterval(), e);
+                sleep();
+            }
+        }
+
+        // Cleared so the last save is not aborted by the interrupt from stop()
+        Thread.interrupted();
+        if (!tokenSaved) {
+            try {
+                saveToken();
+            } catch (MongoException e) {
+                log.warn("Could not save the user change stream resume token on shutdown: {}", e.getMessage());
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> open() {
+        MongoCollection<BsonDocument> users = mongoTemplate.getDb()
+                .getCollection(mongoTemplate.getCollectionName(MongoUser.class), BsonDocument.class);
+
+        var changeStream = users.watch(List.of(Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete"))))
+                .fullDocument(FullDocument.DEFAULT)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+
+        if (resumeToken == null) {
+            resumeToken = loadToken();
+        }
+        if (resumeToken != null) {
+            changeStream.resumeAfter(resumeToken);
+        }
+        return changeStream.cursor();
+    }
+
+    private BsonDocument loadToken() {
+        BsonDocument stored = mongoTemplate.getCollection(TOKEN_COLLECTION)
+                .withDocumentClass(BsonDocument.class)
+                .find(Filters.eq("_id", consumerId))
+                .first();
+        return stored != null ? stored.getDocument("token") : null;
+    }
+
+    private void saveToken() {
+        mongoTemplate.getCollection(TOKEN_COLLECTION).replaceOne(
+                Filters.eq("_id", consumerId),
+                new Document("_id", consumerId).append("token", resumeToken),
+                new ReplaceOptions().upsert(true));
+        tokenSaved = true;
+        tokenSavedAt = System.nanoTime();
+    }
+
+    private void deleteToken() {
+        mongoTemplate.getCollection(TOKEN_COLLECTION).deleteOne(Filters.eq("_id", consumerId));
+    }
+
+    private String resolveConsumerId() {
+        if (props.getConsumerId() != null && !props.getConsumerId().isBlank()) {
+            return props.getConsumerId();
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Set users.changes.consumer-id, the host name is not resolvable.", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(props.getRetryInterval());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
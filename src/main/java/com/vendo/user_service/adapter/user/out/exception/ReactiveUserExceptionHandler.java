@@ -0,0 +1,41 @@
+package com.vendo.user_service.adapter.user.out.exception;
+
+import com.vendo.security_lib.exception.response.ExceptionResponse;
+import com.vendo.user_lib.exception.UserAlreadyExistsException;
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.application.exception.BatchLimitExceededException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserExceptionHandler {
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<ExceptionResponse> handleUserAlreadyExistsException(UserAlreadyExistsException e, ServerHttpRequest request) {
+        return toResponse(HttpStatus.CONFLICT, e, request);
+    }
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleUserNotFoundException(UserNotFoundException e, ServerHttpRequest request) {
+        return toResponse(HttpStatus.NOT_FOUND, e, request);
+    }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleBatchLimitExceededException(BatchLimitExceededException e, ServerHttpRequest request) {
+        return toResponse(HttpStatus.BAD_REQUEST, e, request);
+    }
+
+    private static ResponseEntity<ExceptionResponse> toResponse(HttpStatus status, RuntimeException e, ServerHttpRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .message(e.getMessage())
+                .code(status.value())
+                .path(request.getPath().value())
+                .build();
+        return ResponseEntity.status(status).body(exceptionResponse);
+    }
+}
@@ -2,13 +2,20 @@ package com.vendo.user_service.adapter.user.out.exception;
 
 import com.vendo.security_lib.exception.response.ExceptionResponse;
 import com.vendo.user_lib.exception.*;
+import com.vendo.user_service.application.exception.BatchLimitExceededException;
+import com.vendo.user_service.application.exception.ChangeFeedResetException;
+import com.vendo.user_service.application.exception.InvalidExportFieldException;
+import com.vendo.user_service.application.exception.InvalidSearchCursorException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserExceptionHandler {
 
     @ExceptionHandler(UserAlreadyExistsException.class)
@@ -30,4 +37,45 @@ public class UserExceptionHandler {
                 .build();
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exceptionResponse);
     }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleBatchLimitExceededException(BatchLimitExceededException e, HttpServletRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .message(e.getMessage())
+                .code(HttpStatus.BAD_REQUEST.value())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
+    }
+
+    @ExceptionHandler(InvalidSearchCursorException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidSearchCursorException(InvalidSearchCursorException e, HttpServletRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .message(e.getMessage())
+                .code(HttpStatus.BAD_REQUEST.value())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
+    }
+
+    @ExceptionHandler(InvalidExportFieldException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidExportFieldException(InvalidExportFieldException e, HttpServletRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .message(e.getMessage())
+                .code(HttpStatus.BAD_REQUEST.value())
+                .path(request.getRequestURI())
+                .build();
+        // The export sets its stream content type before the query is validated
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(exceptionResponse);
+    }
+
+    @ExceptionHandler(ChangeFeedResetException.class)
+    public ResponseEntity<ExceptionResponse> handleChangeFeedResetException(ChangeFeedResetException e, HttpServletRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .message(e.getMessage())
+                .code(HttpStatus.GONE.value())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.GONE).body(exceptionResponse);
+    }
 }
@@ -5,17 +5,29 @@ import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
 import com.vendo.user_service.infrastructure.config.MapStructConfig;
 import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import com.vendo.user_service.domain.user.UserSummary;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
-@Mapper(config = MapStructConfig.class)
+@Mapper(config = MapStructConfig.class, imports = UserEmails.class)
 public interface UserMapper {
 
+    @BeanMapping(ignoreUnmappedSourceProperties = "normalizedEmail")
     User toUser(MongoUser mongoUser);
+
+    @Mapping(target = "normalizedEmail", expression = "java(UserEmails.normalize(request.email()))")
     MongoUser toMongoUser(SaveUserRequest request);
 
+    @BeanMapping(ignoreUnmappedSourceProperties = {"normalizedEmail", "providerType", "password", "birthDate", "fullName", "createdAt"})
+    UserSummary toUserSummary(MongoUser mongoUser);
+
+    @BeanMapping(ignoreUnmappedSourceProperties = {"providerType", "password", "birthDate", "fullName", "createdAt"})
+    UserSummary toUserSummary(User user);
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateUser(@MappingTarget MongoUser user, UpdateUserRequest request);
 
@@ -0,0 +1,118 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects point lookups for up to {@code window} or {@code maxSize} distinct keys and resolves them
+ * with one call to {@code loader}, typically a single {@code $in} query.
+ * <p>
+ * Callers block until their batch is loaded, which is cheap on virtual threads. The first key of a
+ * batch starts the window; a batch that fills up is loaded right away by the caller that filled it.
+ * Keys missing from the loaded map fail with {@code notFound}, and a failing load fails every caller
+ * in the batch.
+ */
+public class LookupBatcher<K, V> {
+
+    private final Duration window;
+    private final int maxSize;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final Supplier<? extends RuntimeException> notFound;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final DistributionSummary batchSizes;
+
+    private final Object lock = new Object();
+
+    private Map<K, CompletableFuture<V>> pending = new HashMap<>();
+
+    public LookupBatcher(Duration window, int maxSize, Function<Set<K>, Map<K, V>> loader, Supplier<? extends RuntimeException> notFound,
+                         ScheduledExecutorService scheduler, Executor executor, DistributionSummary batchSizes) {
+        this.window = window;
+        this.maxSize = maxSize;
+        this.loader = loader;
+        this.notFound = notFound;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.batchSizes = batchSizes;
+    }
+
+    public V load(K key) {
+        CompletableFuture<V> future;
+        Map<K, CompletableFuture<V>> full = null;
+
+        synchronized (lock) {
+            future = pending.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(key, future);
+
+                if (pending.size() == 1) {
+                    Map<K, CompletableFuture<V>> batch = pending;
+                    scheduler.schedule(() -> executor.execute(() -> flush(batch)), window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (pending.size() >= maxSize) {
+                    full = pending;
+                    pending = new HashMap<>();
+                }
+            }
+        }
+
+        if (full != null) {
+            load(full);
+        }
+        return await(future);
+    }
+
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new HashMap<>();
+        }
+        load(batch);
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            Map<K, V> loaded = loader.apply(Set.copyOf(batch.keySet()));
+            batch.forEach((key, future) -> {
+                V value = loaded.get(key);
+                if (value != null) {
+                    future.complete(value);
+                } else {
+                    future.completeExceptionally(notFound.get());
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
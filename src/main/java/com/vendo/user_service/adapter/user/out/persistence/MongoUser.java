@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -20,6 +21,11 @@ import java.util.Set;
 @Data
 @Builder
 @Document
+@CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "roles_createdAt_id", def = "{'roles': 1, 'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "emailVerified_createdAt_id", def = "{'emailVerified': 1, 'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "providerType_createdAt_id", def = "{'providerType': 1, 'createdAt': 1, '_id': 1}")
 @NoArgsConstructor
 @AllArgsConstructor
 public class MongoUser {
@@ -30,6 +36,9 @@ public class MongoUser {
     @Indexed(unique = true)
     private String email;
 
+    @Indexed(unique = true, sparse = true)
+    private String normalizedEmail;
+
     private boolean emailVerified;
     private Set<UserRole> roles;
     private UserStatus status;
@@ -41,6 +50,7 @@ public class MongoUser {
     @CreatedDate
     private Instant createdAt;
 
+    @Indexed
     @LastModifiedDate
     private Instant updatedAt;
 
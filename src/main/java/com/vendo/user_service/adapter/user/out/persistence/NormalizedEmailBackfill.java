@@ -0,0 +1,107 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.vendo.user_service.adapter.user.out.props.BackfillProperties;
+import com.vendo.user_service.domain.user.UserEmails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * One-off job storing {@code normalizedEmail} on users written before the field existed, enabled with
+ * {@code mongo.backfill.normalized-email}. It runs at startup, after {@link UserIndexManager} and
+ * before the readiness state turns to {@code ACCEPTING_TRAFFIC}. Only users still missing the field
+ * are touched. Two users whose emails differ only by case cannot both get it; they are logged for a
+ * manual merge and stay reachable by their exact email.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "mongo.backfill", name = "normalized-email", havingValue = "true")
+public class NormalizedEmailBackfill implements ApplicationRunner {
+
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final BackfillProperties props;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    public long backfill() {
+        Query pending = query(where("normalizedEmail").exists(false)).cursorBatchSize(props.getBatchSize());
+        pending.fields().include("email");
+
+        long updated = 0;
+        long conflicts = 0;
+        List<MongoUser> batch = new ArrayList<>(props.getBatchSize());
+
+        try (Stream<MongoUser> users = mongoTemplate.stream(pending, MongoUser.class)) {
+            Iterator<MongoUser> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                MongoUser user = iterator.next();
+                if (user.getEmail() != null) {
+                    batch.add(user);
+                }
+
+                if (batch.size() == props.getBatchSize() || !iterator.hasNext()) {
+                    int failed = write(batch);
+                    updated += batch.size() - failed;
+                    conflicts += failed;
+                    batch.clear();
+                    log.info("Normalized email backfill: {} users updated, {} conflicts.", updated, conflicts);
+                }
+            }
+        }
+
+        log.info("Normalized email backfill finished: {} users updated, {} conflicts.", updated, conflicts);
+        return updated;
+    }
+
+    private int write(List<MongoUser> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MongoUser.class);
+        for (MongoUser user : batch) {
+            bulkOps.updateOne(
+                    query(where("id").is(user.getId()).and("normalizedEmail").exists(false)),
+                    Update.update("normalizedEmail", UserEmails.normalize(user.getEmail())));
+        }
+
+        try {
+            bulkOps.execute();
+            return 0;
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                MongoUser user = batch.get(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY_CODE) {
+                    log.warn("User {} ({}) differs only by case from another user and was not backfilled.", user.getId(), user.getEmail());
+                } else {
+                    log.warn("User {} was not backfilled: {}", user.getId(), error.getMessage());
+                }
+            }
+            return e.getErrors().size();
+        }
+    }
+}
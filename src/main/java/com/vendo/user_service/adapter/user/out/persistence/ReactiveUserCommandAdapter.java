@@ -0,0 +1,61 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.vendo.user_lib.exception.UserAlreadyExistsException;
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.port.user.ReactiveUserCommandPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserCommandAdapter implements ReactiveUserCommandPort {
+
+    private final UserMapper userMapper;
+
+    private final ReactiveUserRepository userRepository;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    private final UserCache userCache;
+
+    private final EmailFilter emailFilter;
+
+    @Override
+    public Mono<User> save(SaveUserRequest body) {
+        return userRepository.save(userMapper.toMongoUser(body))
+                .map(userMapper::toUser)
+                .doOnNext(user -> {
+                    emailFilter.put(user.getEmail());
+                    userCache.put(user);
+                })
+                .onErrorMap(DuplicateKeyException.class, e -> new UserAlreadyExistsException("User already exists."));
+    }
+
+    @Override
+    public Mono<Void> update(String id, UpdateUserRequest body) {
+        return mongoTemplate.findAndModify(
+                        query(where("id").is(id)),
+                        UserUpdates.of(body),
+                        FindAndModifyOptions.options().returnNew(true),
+                        MongoUser.class)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found.")))
+                .map(userMapper::toUser)
+                .doOnNext(userCache::put)
+                .then();
+    }
+}
@@ -0,0 +1,154 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.SingleFlight;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import com.vendo.user_service.domain.user.UserSummary;
+import com.vendo.user_service.port.user.ReactiveUserQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserQueryAdapter implements ReactiveUserQueryPort {
+
+    private final ReactiveUserRepository userRepository;
+    private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final EmailFilter emailFilter;
+    private final SingleFlight singleFlight;
+
+    @Override
+    public Mono<User> getById(String id) {
+        return Mono.justOrEmpty(userCache.getIfPresent(id))
+                .switchIfEmpty(singleFlight.share("getById", id, () -> orNotFound(userRepository.findById(id))
+                        .map(userMapper::toUser)
+                        .map(userCache::cache)));
+    }
+
+    @Override
+    public Mono<User> getByEmail(String email) {
+        return Mono.justOrEmpty(userCache.getIfPresentByEmail(email))
+                .switchIfEmpty(singleFlight.share("getByEmail", email, () -> orNotFound(userRepository.findByNormalizedEmail(UserEmails.normalize(email)).switchIfEmpty(userRepository.findByEmail(email)))
+                        .map(userMapper::toUser)
+                        .map(userCache::cache)));
+    }
+
+    @Override
+    public Mono<UserSummary> getSummaryById(String id) {
+        return Mono.justOrEmpty(userCache.getSummaryIfPresent(id))
+                .switchIfEmpty(Mono.defer(() -> orNotFound(userRepository.findSummaryById(id))
+                        .map(userMapper::toUserSummary)
+                        .map(userCache::cacheSummary)));
+    }
+
+    @Override
+    public Mono<UserSummary> getSummaryByEmail(String email) {
+        return Mono.justOrEmpty(userCache.getSummaryIfPresentByEmail(email))
+                .switchIfEmpty(Mono.defer(() -> orNotFound(userRepository.findSummaryByNormalizedEmail(UserEmails.normalize(email)).switchIfEmpty(userRepository.findSummaryByEmail(email)))
+                        .map(userMapper::toUserSummary)
+                        .map(userCache::cacheSummary)));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        if (!emailFilter.mightContain(email)) {
+            return Mono.just(false);
+        }
+        String normalized = UserEmails.normalize(email);
+        return singleFlight.share("existsByEmail", email, () -> userRepository.existsByNormalizedEmail(normalized)
+                .flatMap(exists -> exists ? Mono.just(true) : userRepository.existsByEmail(email)));
+    }
+
+    @Override
+    public Mono<Map<String, User>> getByIds(Collection<String> ids) {
+        return Mono.defer(() -> {
+            Map<String, User> users = new HashMap<>();
+            Set<String> missing = new HashSet<>();
+            split(ids, userCache::getIfPresent, users, missing);
+
+            return load(userRepository.findAllById(missing), missing, Function.identity(), User::getId, users);
+        });
+    }
+
+    @Override
+    public Mono<Map<String, User>> getByEmails(Collection<String> emails) {
+        return Mono.defer(() -> {
+            Map<String, User> users = new HashMap<>();
+            Set<String> missing = new HashSet<>();
+            split(emails, userCache::getIfPresentByEmail, users, missing);
+
+            if (missing.isEmpty()) {
+                return Mono.just(users);
+            }
+
+            Set<String> normalized = new HashSet<>();
+            missing.forEach(email -> normalized.add(UserEmails.normalize(email)));
+
+            return userRepository.findAllByNormalizedEmailIn(normalized).collectList().flatMap(found -> {
+                Set<String> foundEmails = new HashSet<>();
+                found.forEach(user -> foundEmails.add(user.getNormalizedEmail()));
+                List<String> exact = missing.stream().filter(email -> !foundEmails.contains(UserEmails.normalize(email))).toList();
+
+                Flux<MongoUser> query = Flux.fromIterable(found)
+                        .concatWith(exact.isEmpty() ? Flux.empty() : userRepository.findAllByEmailIn(exact));
+                return load(query, missing, UserEmails::normalize, user -> UserEmails.normalize(user.getEmail()), users);
+            });
+        });
+    }
+
+    /**
+     * Loads the {@code missing} keys and adds each found user under its requested key. {@code keyOf}
+     * maps a requested key and {@code userKey} a loaded user to the same lookup key.
+     */
+    private Mono<Map<String, User>> load(Flux<MongoUser> query, Set<String> missing, Function<String, String> keyOf,
+                                         Function<User, String> userKey, Map<String, User> users) {
+        if (missing.isEmpty()) {
+            return Mono.just(users);
+        }
+
+        return query.map(userMapper::toUser)
+                .map(userCache::cache)
+                .collectMap(userKey)
+                .map(loaded -> {
+                    missing.forEach(key -> {
+                        User user = loaded.get(keyOf.apply(key));
+                        if (user != null) {
+                            users.put(key, user);
+                        }
+                    });
+                    return users;
+                });
+    }
+
+    private static void split(Collection<String> keys, Function<String, User> cached, Map<String, User> users, Set<String> missing) {
+        for (String key : keys) {
+            User user = cached.apply(key);
+            if (user != null) {
+                users.put(key, user);
+            } else {
+                missing.add(key);
+            }
+        }
+    }
+
+    private static <T> Mono<T> orNotFound(Mono<T> mono) {
+        return mono.switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found.")));
+    }
+}
@@ -0,0 +1,32 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<MongoUser, String> {
+
+    Mono<MongoUser> findByNormalizedEmail(String normalizedEmail);
+
+    Mono<Boolean> existsByNormalizedEmail(String normalizedEmail);
+
+    Mono<MongoUser> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    @Query(value = "{ '_id' : ?0 }", fields = UserRepository.SUMMARY_FIELDS)
+    Mono<MongoUser> findSummaryById(String id);
+
+    @Query(value = "{ 'normalizedEmail' : ?0 }", fields = UserRepository.SUMMARY_FIELDS)
+    Mono<MongoUser> findSummaryByNormalizedEmail(String normalizedEmail);
+
+    @Query(value = "{ 'email' : ?0 }", fields = UserRepository.SUMMARY_FIELDS)
+    Mono<MongoUser> findSummaryByEmail(String email);
+
+    Flux<MongoUser> findAllByNormalizedEmailIn(Collection<String> normalizedEmails);
+
+    Flux<MongoUser> findAllByEmailIn(Collection<String> emails);
+}
@@ -0,0 +1,92 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import org.bson.BsonTimestamp;
+
+/**
+ * The causal token of the request running on the current thread: the operation time sent in
+ * {@value #HEADER}, advanced by the writes the request makes itself. Threads outside a request
+ * have none.
+ */
+public final class ReadAfter {
+
+    public static final String HEADER = "X-Read-After";
+
+    private static final ThreadLocal<ReadAfter> CURRENT = new ThreadLocal<>();
+
+    private final BsonTimestamp requested;
+    private BsonTimestamp written;
+
+    private ReadAfter(BsonTimestamp requested) {
+        this.requested = requested;
+    }
+
+    /**
+     * Opens a scope for a request carrying {@code header}, which may be {@code null}, and returns
+     * the previous one, to be handed to {@link #exit(ReadAfter)}.
+     */
+    public static ReadAfter enter(String header) {
+        ReadAfter previous = CURRENT.get();
+        CURRENT.set(new ReadAfter(decode(header)));
+        return previous;
+    }
+
+    public static void exit(ReadAfter previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * The token to return to the caller, or {@code null} when the request has not written.
+     */
+    public static String written() {
+        ReadAfter current = CURRENT.get();
+        return current != null && current.written != null ? encode(current.written) : null;
+    }
+
+    static BsonTimestamp requested() {
+        ReadAfter current = CURRENT.get();
+        return current != null ? current.requested : null;
+    }
+
+    static BsonTimestamp current() {
+        ReadAfter current = CURRENT.get();
+        if (current == null) {
+            return null;
+        }
+        return current.written != null ? max(current.requested, current.written) : current.requested;
+    }
+
+    static void recordWrite(BsonTimestamp operationTime) {
+        ReadAfter current = CURRENT.get();
+        if (current != null) {
+            current.written = max(current.written, operationTime);
+        }
+    }
+
+    private static BsonTimestamp max(BsonTimestamp first, BsonTimestamp second) {
+        if (first == null) {
+            return second;
+        }
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static String encode(BsonTimestamp timestamp) {
+        return timestamp.getTime() + "." + timestamp.getInc();
+    }
+
+    private static BsonTimestamp decode(String header) {
+        if (header == null) {
+            return null;
+        }
+
+        int separator = header.indexOf('.');
+        try {
+            return new BsonTimestamp(Integer.parseInt(header.substring(0, separator)), Integer.parseInt(header.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
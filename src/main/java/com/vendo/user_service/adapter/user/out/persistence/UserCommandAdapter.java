@@ -1,29 +1,60 @@
 package com.vendo.user_service.adapter.user.out.persistence;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.vendo.user_lib.exception.UserAlreadyExistsException;
 import com.vendo.user_lib.exception.UserNotFoundException;
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
 import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserStatus;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
 import com.vendo.user_service.port.user.UserCommandPort;
 import lombok.RequiredArgsConstructor;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
 @Component
 @RequiredArgsConstructor
 public class UserCommandAdapter implements UserCommandPort {
 
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
     private final UserMapper userMapper;
 
-    private final UserRepository userRepository;
+    private final UserReadRouter readRouter;
+
+    private final UserCache userCache;
+
+    private final EmailFilter emailFilter;
 
     @Override
     public User save(SaveUserRequest body) {
         try {
-            MongoUser saved = userRepository.save(userMapper.toMongoUser(body));
-            return userMapper.toUser(saved);
+            MongoUser saved = readRouter.write(ops -> ops.insert(userMapper.toMongoUser(body)));
+            User user = userMapper.toUser(saved);
+            emailFilter.put(user.getEmail());
+            userCache.put(user);
+            return user;
         } catch (DuplicateKeyException e) {
             throw new UserAlreadyExistsException("User already exists.");
         }
@@ -31,13 +62,107 @@ public class UserCommandAdapter implements UserCommandPort {
 
     @Override
     public void update(String id, UpdateUserRequest body) {
-        MongoUser user = getOrThrow(id);
-        userMapper.updateUser(user, body);
-        userRepository.save(user);
+        MongoUser updated = readRouter.write(ops -> ops.findAndModify(
+                query(where("id").is(id)),
+                UserUpdates.of(body),
+                FindAndModifyOptions.options().returnNew(true),
+                MongoUser.class));
+
+        if (updated == null) {
+            throw new UserNotFoundException("User not found.");
+        }
+
+        User user = userMapper.toUser(updated);
+        userCache.put(user);
+    }
+
+    @Override
+    public List<BulkUserResult> saveAll(List<SaveUserRequest> bodies) {
+        Instant now = Instant.now();
+        List<MongoUser> users = new ArrayList<>(bodies.size());
+        for (SaveUserRequest body : bodies) {
+            MongoUser user = userMapper.toMongoUser(body);
+            user.setId(new ObjectId().toHexString());
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            users.add(user);
+        }
+
+        Map<Integer, BulkWriteError> errors = readRouter.write(ops ->
+                execute(ops.bulkOps(BulkOperations.BulkMode.UNORDERED, MongoUser.class).insert(users))).errors();
+
+        List<BulkUserResult> results = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            MongoUser user = users.get(i);
+            BulkWriteError error = errors.get(i);
+
+            if (error != null) {
+                results.add(toFailure(user.getEmail(), error));
+            } else {
+                emailFilter.put(user.getEmail());
+                results.add(BulkUserResult.of(user.getEmail(), user.getId(), BulkUserStatus.CREATED));
+            }
+        }
+        return results;
     }
 
-    private MongoUser getOrThrow(String id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found."));
+    @Override
+    public List<BulkUserResult> upsertAll(List<SaveUserRequest> bodies) {
+        Instant now = Instant.now();
+        BulkOutcome outcome = readRouter.write(ops -> {
+            BulkOperations bulkOps = ops.bulkOps(BulkOperations.BulkMode.UNORDERED, MongoUser.class);
+            for (SaveUserRequest body : bodies) {
+                String normalizedEmail = UserEmails.normalize(body.email());
+                bulkOps.upsert(query(where("normalizedEmail").is(normalizedEmail)), UserUpdates.upsertOf(body, normalizedEmail, now));
+            }
+            return execute(bulkOps);
+        });
+
+        Map<Integer, String> insertedIds = new HashMap<>();
+        if (outcome.result() != null) {
+            for (BulkWriteUpsert upsert : outcome.result().getUpserts()) {
+                insertedIds.put(upsert.getIndex(), toId(upsert.getId()));
+            }
+        }
+
+        List<BulkUserResult> results = new ArrayList<>(bodies.size());
+        for (int i = 0; i < bodies.size(); i++) {
+            String email = bodies.get(i).email();
+            BulkWriteError error = outcome.errors().get(i);
+
+            if (error != null) {
+                results.add(toFailure(email, error));
+            } else if (insertedIds.containsKey(i)) {
+                emailFilter.put(email);
+                results.add(BulkUserResult.of(email, insertedIds.get(i), BulkUserStatus.CREATED));
+            } else {
+                userCache.evictByEmail(email);
+                results.add(BulkUserResult.of(email, null, BulkUserStatus.UPDATED));
+            }
+        }
+        return results;
+    }
+
+    private static BulkOutcome execute(BulkOperations bulkOps) {
+        try {
+            return new BulkOutcome(bulkOps.execute(), Map.of());
+        } catch (BulkOperationException e) {
+            Map<Integer, BulkWriteError> errors = new HashMap<>();
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error));
+            return new BulkOutcome(e.getResult(), errors);
+        }
+    }
+
+    private static BulkUserResult toFailure(String email, BulkWriteError error) {
+        if (error.getCode() == DUPLICATE_KEY_CODE) {
+            return BulkUserResult.failed(email, BulkUserStatus.DUPLICATE, "User already exists.");
+        }
+        return BulkUserResult.failed(email, BulkUserStatus.FAILED, error.getMessage());
+    }
+
+    private static String toId(BsonValue id) {
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
     }
-}
\ No newline at end of file
+
+    private record BulkOutcome(BulkWriteResult result, Map<Integer, BulkWriteError> errors) { }
+}
@@ -0,0 +1,201 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.MongoException;
+import com.vendo.user_service.adapter.user.out.props.UserIndexProperties;
+import com.vendo.user_service.adapter.user.out.props.UserIndexProperties.PlanCheck;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the indexes declared on {@link MongoUser} at startup and explains the adapter's lookups to
+ * check they are served by an index. As an {@link ApplicationRunner} it finishes before the readiness
+ * state turns to {@code ACCEPTING_TRAFFIC}, so {@code /actuator/health/readiness} stays down until the
+ * indexes are built.
+ */
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "mongo.indexes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserIndexManager implements ApplicationRunner {
+
+    private static final String COLLSCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final UserIndexProperties props;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensureIndexes();
+        verifyQueryPlans();
+    }
+
+    public void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(MongoUser.class);
+        Set<String> existing = indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+
+        for (IndexDefinition index : IndexResolver.create(mongoTemplate.getConverter().getMappingContext()).resolveIndexFor(MongoUser.class)) {
+            String name = index.getIndexOptions().getString("name");
+            if (existing.contains(name)) {
+                continue;
+            }
+
+            log.info("Creating index {} on {}.", name, collectionName());
+            ScheduledExecutorService progress = logProgress(name);
+            try {
+                indexOps.createIndex(new BackgroundIndex(index));
+                log.info("Index {} on {} created.", name, collectionName());
+            } catch (MongoException e) {
+                log.warn("Index {} on {} could not be created: {}", name, collectionName(), e.getMessage());
+            } finally {
+                progress.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Returns the lookups whose winning plan scans the collection.
+     */
+    public List<String> verifyQueryPlans() {
+        if (props.getPlanCheck() == PlanCheck.OFF) {
+            return List.of();
+        }
+
+        List<String> regressions = new ArrayList<>();
+        queries().forEach((name, query) -> {
+            List<String> stages = stages(explain(query));
+            if (stages.contains(COLLSCAN)) {
+                regressions.add(name);
+            }
+            log.info("Query plan of {}: {}.", name, String.join(" > ", stages));
+        });
+
+        if (!regressions.isEmpty()) {
+            String message = "Queries fall back to a collection scan on %s: %s.".formatted(collectionName(), regressions);
+            if (props.getPlanCheck() == PlanCheck.FAIL) {
+                throw new IllegalStateException(message);
+            }
+            log.warn(message);
+        }
+        return regressions;
+    }
+
+    private Map<String, Query> queries() {
+        String email = "plan-check@vendo.invalid";
+
+        Map<String, Query> queries = new LinkedHashMap<>();
+        queries.put("findById", UserQueries.byId(new ObjectId().toHexString()));
+        queries.put("findByEmail", UserQueries.byEmail(email));
+        queries.put("findSummaryByEmail", UserQueries.summary(UserQueries.byEmail(email)));
+        queries.put("findByExactEmail", UserQueries.byExactEmail(email));
+        queries.put("findAllById", UserQueries.byIds(List.of(new ObjectId().toHexString())));
+        queries.put("findAllByEmail", UserQueries.byEmails(List.of(email)));
+        return queries;
+    }
+
+    private Document explain(Query query) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(MongoUser.class);
+        QueryMapper queryMapper = new QueryMapper(converter);
+
+        return mongoTemplate.getCollection(collectionName())
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .projection(queryMapper.getMappedFields(query.getFieldsObject(), entity))
+                .limit(1)
+                .explain(ExplainVerbosity.QUERY_PLANNER);
+    }
+
+    /**
+     * Flattens the winning plan into its stage names, root first. Classic, slot-based and sharded
+     * plans nest their stages differently, so every nested document is walked.
+     */
+    private static List<String> stages(Document explain) {
+        List<String> stages = new ArrayList<>();
+        Object queryPlanner = explain.get("queryPlanner");
+        if (queryPlanner instanceof Document planner) {
+            collectStages(planner.get("winningPlan"), stages);
+        }
+        return stages;
+    }
+
+    private static void collectStages(Object node, List<String> stages) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    private ScheduledExecutorService logProgress(String name) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("index-progress").factory());
+        long interval = props.getProgressInterval().toMillis();
+
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                Document currentOp = mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin").runCommand(new Document("currentOp", true)
+                        .append("command.createIndexes", collectionName()));
+
+                for (Document op : currentOp.getList("inprog", Document.class, List.of())) {
+                    log.info("Building index {} on {}: {}", name, collectionName(), op.getString("msg"));
+                }
+            } catch (MongoException e) {
+                log.debug("Index build progress is unavailable: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+
+        return executor;
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(MongoUser.class);
+    }
+
+    /**
+     * Asks servers older than 4.2 for a non-blocking build; newer servers always build that way.
+     */
+    private record BackgroundIndex(IndexDefinition index) implements IndexDefinition {
+
+        @Override
+        public Document getIndexKeys() {
+            return index.getIndexKeys();
+        }
+
+        @Override
+        public Document getIndexOptions() {
+            return new Document(index.getIndexOptions()).append("background", true);
+        }
+    }
+}
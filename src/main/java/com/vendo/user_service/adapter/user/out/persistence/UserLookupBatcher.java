@@ -0,0 +1,76 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.adapter.user.out.props.LookupBatchProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batches {@code getById} and {@code getByEmail} misses into {@code $in} queries when
+ * {@code mongo.lookup-batch.enabled} is set. Each batch waits at most {@code mongo.lookup-batch.window}
+ * and holds at most {@code mongo.lookup-batch.max-size} keys. Batch sizes are recorded as
+ * {@code users.lookups.batch.size}.
+ */
+@Component
+public class UserLookupBatcher implements DisposableBean {
+
+    private final LookupBatchProperties props;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("lookup-batch").factory());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LookupBatcher<String, User> byId;
+    private final LookupBatcher<String, User> byEmail;
+
+    public UserLookupBatcher(LookupBatchProperties props, UserReadRouter readRouter, UserMapper userMapper, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.byId = new LookupBatcher<>(props.getWindow(), props.getMaxSize(),
+                ids -> readRouter.read(ops -> ops.find(readRouter.route(UserQueries.byIds(ids)), MongoUser.class)).stream()
+                        .map(userMapper::toUser)
+                        .collect(Collectors.toMap(User::getId, Function.identity())),
+                () -> new UserNotFoundException("User not found."),
+                scheduler, executor, batchSizes(meterRegistry, "getById"));
+        this.byEmail = new LookupBatcher<>(props.getWindow(), props.getMaxSize(),
+                emails -> readRouter.read(ops -> ops.find(readRouter.route(UserQueries.byEmails(emails)), MongoUser.class)).stream()
+                        .map(userMapper::toUser)
+                        .collect(Collectors.toMap(user -> UserEmails.normalize(user.getEmail()), Function.identity())),
+                () -> new UserNotFoundException("User not found."),
+                scheduler, executor, batchSizes(meterRegistry, "getByEmail"));
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    public User getById(String id) {
+        return byId.load(id);
+    }
+
+    public User getByEmail(String normalizedEmail) {
+        return byEmail.load(normalizedEmail);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static DistributionSummary batchSizes(MeterRegistry meterRegistry, String lookup) {
+        return DistributionSummary.builder("users.lookups.batch.size")
+                .description("Keys resolved per batched lookup query")
+                .tag("lookup", lookup)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+final class UserQueries {
+
+    private static final List<String> SUMMARY_FIELDS = List.copyOf(Document.parse(UserRepository.SUMMARY_FIELDS).keySet());
+
+    private UserQueries() {
+    }
+
+    static Query byId(String id) {
+        return query(where("id").is(id));
+    }
+
+    static Query byIds(Collection<String> ids) {
+        return query(where("id").in(ids));
+    }
+
+    static Query byEmail(String normalizedEmail) {
+        return query(where("normalizedEmail").is(normalizedEmail));
+    }
+
+    static Query byEmails(Collection<String> normalizedEmails) {
+        return query(where("normalizedEmail").in(normalizedEmails));
+    }
+
+    /**
+     * Matches the stored email exactly, for users without {@code normalizedEmail}: those the backfill
+     * has not reached, or skipped because another user differs only by case.
+     */
+    static Query byExactEmail(String email) {
+        return query(where("email").is(email));
+    }
+
+    static Query byExactEmails(Collection<String> emails) {
+        return query(where("email").in(emails));
+    }
+
+    static Query summary(Query query) {
+        SUMMARY_FIELDS.forEach(query.fields()::include);
+        return query;
+    }
+}
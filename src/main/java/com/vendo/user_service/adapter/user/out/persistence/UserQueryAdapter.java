@@ -1,35 +1,267 @@
 package com.vendo.user_service.adapter.user.out.persistence;
 
 import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.SingleFlight;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
 import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchCursor;
+import com.vendo.user_service.application.command.UserSearchQuery;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserEmails;
+import com.vendo.user_service.domain.user.UserSummary;
 import com.vendo.user_service.port.user.UserQueryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Cache-backed user reads. Database reads go through {@link UserReadRouter}, so they follow the
+ * configured read preference. A request under a {@link ReadAfter} token skips single-flight and
+ * batching, and skips the cache and the email filter when the token came from the caller.
+ */
 @Component
 @RequiredArgsConstructor
 public class UserQueryAdapter implements UserQueryPort {
 
-    private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final EmailFilter emailFilter;
+    private final MongoTemplate mongoTemplate;
+    private final SingleFlight singleFlight;
+    private final UserLookupBatcher lookupBatcher;
+    private final UserReadRouter readRouter;
 
     @Override
     public User getById(String id) {
-        MongoUser mongoUser = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found."));
-        return userMapper.toUser(mongoUser);
+        if (readRouter.bypassesCache()) {
+            return refresh(loadById(id));
+        }
+        return userCache.getById(id, key -> lookup("getById", key, lookupBatcher::getById, this::loadById));
     }
 
     @Override
     public User getByEmail(String email) {
-        MongoUser mongoUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found."));
-        return userMapper.toUser(mongoUser);
+        String normalized = UserEmails.normalize(email);
+        if (readRouter.bypassesCache()) {
+            return refresh(orExactEmail(() -> loadByEmail(normalized), () -> loadOne(UserQueries.byExactEmail(email))));
+        }
+        return userCache.getByEmail(email, key -> orExactEmail(
+                () -> lookup("getByEmail", normalized, lookupBatcher::getByEmail, this::loadByEmail),
+                () -> loadOne(UserQueries.byExactEmail(email))));
+    }
+
+    @Override
+    public UserSummary getSummaryById(String id) {
+        if (readRouter.bypassesCache()) {
+            return loadSummary(UserQueries.byId(id));
+        }
+        return userCache.getSummaryById(id, key -> loadSummary(UserQueries.byId(key)));
+    }
+
+    @Override
+    public UserSummary getSummaryByEmail(String email) {
+        Supplier<UserSummary> load = () -> orExactEmail(
+                () -> loadSummary(UserQueries.byEmail(UserEmails.normalize(email))),
+                () -> loadSummary(UserQueries.byExactEmail(email)));
+        if (readRouter.bypassesCache()) {
+            return load.get();
+        }
+        return userCache.getSummaryByEmail(email, key -> load.get());
     }
 
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        if (!readRouter.bypassesCache() && !emailFilter.mightContain(email)) {
+            return false;
+        }
+        String normalized = UserEmails.normalize(email);
+        Supplier<Boolean> exists = () -> readRouter.read(ops -> ops.exists(readRouter.route(UserQueries.byEmail(normalized)), MongoUser.class)
+                || ops.exists(readRouter.route(UserQueries.byExactEmail(email)), MongoUser.class));
+        return readRouter.mustReadAfterWrite() ? exists.get() : singleFlight.execute("existsByEmail", email, exists);
+    }
+
+    @Override
+    public Map<String, User> getByIds(Collection<String> ids) {
+        if (readRouter.bypassesCache()) {
+            Map<String, User> users = loadAllById(Set.copyOf(ids));
+            users.values().forEach(userCache::put);
+            return users;
+        }
+        return userCache.getAllById(ids, this::loadAllById);
+    }
+
+    @Override
+    public Map<String, User> getByEmails(Collection<String> emails) {
+        if (readRouter.bypassesCache()) {
+            Map<String, User> loaded = loadAllByEmail(emails.stream().map(UserEmails::normalize).collect(Collectors.toSet()), emails);
+            Map<String, User> users = new HashMap<>();
+            for (String email : emails) {
+                User user = loaded.get(UserEmails.normalize(email));
+                if (user != null) {
+                    users.put(email, refresh(user));
+                }
+            }
+            return users;
+        }
+        return userCache.getAllByEmail(emails, normalized -> loadAllByEmail(normalized, emails));
+    }
+
+    /**
+     * Reads straight from a cursor, bypassing the cache so a full export does not evict the hot set.
+     */
+    @Override
+    public Stream<User> streamAll(UserExportQuery exportQuery) {
+        Query query = new Query().cursorBatchSize(exportQuery.batchSize());
+
+        if (exportQuery.since() != null) {
+            query.addCriteria(where("updatedAt").gte(exportQuery.since()));
+        }
+
+        if (exportQuery.fields() != null && !exportQuery.fields().isEmpty()) {
+            exportQuery.fields().forEach(query.fields()::include);
+        } else {
+            query.fields().exclude("password");
+        }
+
+        return mongoTemplate.stream(readRouter.route(query), MongoUser.class).map(userMapper::toUser);
+    }
+
+    /**
+     * Pages with a keyset on {@code (createdAt, _id)} instead of skip/limit, so every page is a bounded
+     * range scan of one of the compound indexes declared on {@link MongoUser}. Users without a
+     * {@code createdAt} are never returned.
+     */
+    @Override
+    public List<User> search(UserSearchQuery searchQuery) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (searchQuery.status() != null) {
+            criteria.add(where("status").is(searchQuery.status()));
+        }
+        if (searchQuery.roles() != null && !searchQuery.roles().isEmpty()) {
+            criteria.add(where("roles").in(searchQuery.roles()));
+        }
+        if (searchQuery.emailVerified() != null) {
+            criteria.add(where("emailVerified").is(searchQuery.emailVerified()));
+        }
+        if (searchQuery.providerType() != null) {
+            criteria.add(where("providerType").is(searchQuery.providerType()));
+        }
+
+        Criteria createdAt = where("createdAt").gte(searchQuery.createdFrom() != null ? searchQuery.createdFrom() : Instant.EPOCH);
+        if (searchQuery.createdTo() != null) {
+            createdAt.lt(searchQuery.createdTo());
+        }
+        criteria.add(createdAt);
+
+        UserSearchCursor after = searchQuery.after();
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    where("createdAt").gt(after.createdAt()),
+                    where("createdAt").is(after.createdAt()).and("id").gt(after.id())));
+        }
+
+        Query query = new Query(new Criteria().andOperator(criteria))
+                .with(Sort.by(Sort.Direction.ASC, "createdAt", "id"))
+                .limit(searchQuery.limit());
+
+        return readRouter.read(ops -> ops.find(readRouter.route(query), MongoUser.class)).stream()
+                .map(userMapper::toUser)
+                .toList();
+    }
+
+    /**
+     * Loads through single-flight and, when enabled, the batcher, unless the request must see a
+     * write and so cannot take the result of a read another request started earlier.
+     */
+    private User lookup(String lookup, String key, Function<String, User> batched, Function<String, User> direct) {
+        if (readRouter.mustReadAfterWrite()) {
+            return direct.apply(key);
+        }
+        return singleFlight.execute(lookup, key, () -> lookupBatcher.isEnabled() ? batched.apply(key) : direct.apply(key));
+    }
+
+    /**
+     * Runs {@code exact} when {@code lookup} finds no user with the normalized email.
+     */
+    private static <T> T orExactEmail(Supplier<T> lookup, Supplier<T> exact) {
+        try {
+            return lookup.get();
+        } catch (UserNotFoundException e) {
+            return exact.get();
+        }
+    }
+
+    private User refresh(User user) {
+        userCache.put(user);
+        return user;
+    }
+
+    private User loadById(String id) {
+        return loadOne(UserQueries.byId(id));
+    }
+
+    private User loadByEmail(String normalizedEmail) {
+        return loadOne(UserQueries.byEmail(normalizedEmail));
+    }
+
+    private User loadOne(Query query) {
+        MongoUser mongoUser = readRouter.read(ops -> ops.findOne(readRouter.route(query), MongoUser.class));
+        if (mongoUser == null) {
+            throw new UserNotFoundException("User not found.");
+        }
+        return userMapper.toUser(mongoUser);
+    }
+
+    private UserSummary loadSummary(Query query) {
+        MongoUser mongoUser = readRouter.read(ops -> ops.findOne(readRouter.route(UserQueries.summary(query)), MongoUser.class));
+        if (mongoUser == null) {
+            throw new UserNotFoundException("User not found.");
+        }
+        return userMapper.toUserSummary(mongoUser);
+    }
+
+    private Map<String, User> loadAllById(Set<String> ids) {
+        return readRouter.read(ops -> ops.find(readRouter.route(UserQueries.byIds(ids)), MongoUser.class)).stream()
+                .map(userMapper::toUser)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    /**
+     * Loads users keyed by normalized email. Requested {@code emails} whose normalized form is in
+     * {@code normalizedEmails} but was not found are then matched exactly.
+     */
+    private Map<String, User> loadAllByEmail(Set<String> normalizedEmails, Collection<String> emails) {
+        Map<String, User> users = readRouter.read(ops -> ops.find(readRouter.route(UserQueries.byEmails(normalizedEmails)), MongoUser.class)).stream()
+                .map(userMapper::toUser)
+                .collect(Collectors.toMap(user -> UserEmails.normalize(user.getEmail()), Function.identity()));
+
+        List<String> exact = emails.stream()
+                .filter(email -> normalizedEmails.contains(UserEmails.normalize(email)) && !users.containsKey(UserEmails.normalize(email)))
+                .toList();
+        if (!exact.isEmpty()) {
+            readRouter.read(ops -> ops.find(readRouter.route(UserQueries.byExactEmails(exact)), MongoUser.class))
+                    .forEach(user -> users.putIfAbsent(UserEmails.normalize(user.getEmail()), userMapper.toUser(user)));
+        }
+        return users;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,109 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+import com.vendo.user_service.infrastructure.props.MongoReadProps;
+import org.bson.BsonTimestamp;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Routes user reads to the replica set members chosen by {@code mongo.read.preference}, bounded by
+ * {@code mongo.read.max-staleness}, while writes always go to the primary. With
+ * {@code mongo.read.read-your-writes}, writes run in a causally consistent session whose operation
+ * time becomes the request's {@link ReadAfter} token, and reads under a token wait for the chosen
+ * member to reach it.
+ */
+@Component
+public class UserReadRouter {
+
+    private static final ClientSessionOptions CAUSAL = ClientSessionOptions.builder().causallyConsistent(true).build();
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoReadProps props;
+    private final ReadPreference readPreference;
+
+    public UserReadRouter(MongoTemplate mongoTemplate, MongoReadProps props) {
+        this.mongoTemplate = mongoTemplate;
+        this.props = props;
+        this.readPreference = readPreference(props);
+    }
+
+    /**
+     * Applies the configured read preference to {@code query}.
+     */
+    public Query route(Query query) {
+        return isPrimaryOnly() ? query : query.withReadPreference(readPreference);
+    }
+
+    /**
+     * Whether the current request must observe a write. Such reads must not share results with
+     * other requests' reads.
+     */
+    public boolean mustReadAfterWrite() {
+        return readAfter() != null;
+    }
+
+    /**
+     * Whether the request sent a token. It may come from a write on another instance, which this
+     * instance's cache has not seen yet; writes made here already refresh the cache.
+     */
+    public boolean bypassesCache() {
+        return isCausal() && ReadAfter.requested() != null;
+    }
+
+    public <T> T read(Function<MongoOperations, T> reader) {
+        BsonTimestamp after = readAfter();
+        if (after == null) {
+            return reader.apply(mongoTemplate);
+        }
+
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            session.advanceOperationTime(after);
+            return reader.apply(mongoTemplate.withSession(session));
+        }
+    }
+
+    public <T> T write(Function<MongoOperations, T> writer) {
+        if (!isCausal()) {
+            return writer.apply(mongoTemplate);
+        }
+
+        try (ClientSession session = mongoTemplate.getMongoDatabaseFactory().getSession(CAUSAL)) {
+            try {
+                return writer.apply(mongoTemplate.withSession(session));
+            } finally {
+                if (session.getOperationTime() != null) {
+                    ReadAfter.recordWrite(session.getOperationTime());
+                }
+            }
+        }
+    }
+
+    private boolean isPrimaryOnly() {
+        return readPreference.equals(ReadPreference.primary());
+    }
+
+    private boolean isCausal() {
+        return !isPrimaryOnly() && props.isReadYourWrites();
+    }
+
+    private BsonTimestamp readAfter() {
+        return isCausal() ? ReadAfter.current() : null;
+    }
+
+    private static ReadPreference readPreference(MongoReadProps props) {
+        ReadPreference preference = ReadPreference.valueOf(props.getPreference());
+        if (preference.equals(ReadPreference.primary())) {
+            return preference;
+        }
+        return ReadPreference.valueOf(props.getPreference(), List.of(), props.getMaxStaleness().toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
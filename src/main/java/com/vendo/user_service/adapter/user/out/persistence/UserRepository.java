@@ -1,12 +1,16 @@
 package com.vendo.user_service.adapter.user.out.persistence;
 
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends MongoRepository<MongoUser, String> {
 
-    Optional<MongoUser> findByEmail(String email);
+    String SUMMARY_FIELDS = "{ 'email' : 1, 'emailVerified' : 1, 'roles' : 1, 'status' : 1, 'updatedAt' : 1 }";
 
-    boolean existsByEmail(String email);
+    @Meta(cursorBatchSize = 10_000)
+    @Query(value = "{}", fields = "{ 'email' : 1 }")
+    Stream<MongoUser> streamAllEmails();
 }
@@ -0,0 +1,53 @@
+package com.vendo.user_service.adapter.user.out.persistence;
+
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+final class UserUpdates {
+
+    private UserUpdates() {
+    }
+
+    static Update of(UpdateUserRequest body) {
+        Update update = new Update().set("updatedAt", Instant.now());
+        setIfPresent(update, "fullName", body.fullName());
+        setIfPresent(update, "birthDate", body.birthDate());
+        setIfPresent(update, "emailVerified", body.emailVerified());
+        setIfPresent(update, "password", body.password());
+        setIfPresent(update, "status", body.status());
+        setIfPresent(update, "providerType", body.providerType());
+        return update;
+    }
+
+    /**
+     * Sets the non-null fields of {@code body} on a match. The email, {@code createdAt} and an
+     * unverified {@code emailVerified} are only written when the upsert inserts a new document.
+     */
+    static Update upsertOf(SaveUserRequest body, String normalizedEmail, Instant now) {
+        Update update = new Update()
+                .set("normalizedEmail", normalizedEmail)
+                .set("updatedAt", now)
+                .setOnInsert("email", body.email())
+                .setOnInsert("createdAt", now);
+        setIfPresent(update, "fullName", body.fullName());
+        setIfPresent(update, "roles", body.roles());
+        setIfPresent(update, "status", body.status());
+        setIfPresent(update, "providerType", body.providerType());
+        setIfPresent(update, "password", body.password());
+        if (body.emailVerified() != null) {
+            update.set("emailVerified", body.emailVerified());
+        } else {
+            update.setOnInsert("emailVerified", false);
+        }
+        return update;
+    }
+
+    private static void setIfPresent(Update update, String key, Object value) {
+        if (value != null) {
+            update.set(key, value);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.vendo.user_service.adapter.user.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mongo.backfill")
+public class BackfillProperties {
+
+    private boolean normalizedEmail;
+
+    private int batchSize = 1_000;
+
+}
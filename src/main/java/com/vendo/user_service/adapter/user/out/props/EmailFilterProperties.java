@@ -0,0 +1,24 @@
+package com.vendo.user_service.adapter.user.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "cache.email-filter")
+public class EmailFilterProperties {
+
+    private boolean enabled = true;
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveProbability = 0.01;
+
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+}
@@ -0,0 +1,22 @@
+package com.vendo.user_service.adapter.user.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mongo.lookup-batch")
+public class LookupBatchProperties {
+
+    private boolean enabled = false;
+
+    private Duration window = Duration.ofMillis(2);
+
+    private int maxSize = 100;
+
+}
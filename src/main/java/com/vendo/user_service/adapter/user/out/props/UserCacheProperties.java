@@ -0,0 +1,20 @@
+package com.vendo.user_service.adapter.user.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "cache.user")
+public class UserCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(5);
+
+}
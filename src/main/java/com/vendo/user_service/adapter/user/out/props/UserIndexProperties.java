@@ -0,0 +1,26 @@
+package com.vendo.user_service.adapter.user.out.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mongo.indexes")
+public class UserIndexProperties {
+
+    private boolean enabled = true;
+
+    private PlanCheck planCheck = PlanCheck.WARN;
+
+    private Duration progressInterval = Duration.ofSeconds(10);
+
+    public enum PlanCheck {
+        OFF, WARN, FAIL
+    }
+
+}
@@ -2,22 +2,58 @@ package com.vendo.user_service.application;
 
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserRow;
+import com.vendo.user_service.application.command.BulkUserStatus;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchCursor;
+import com.vendo.user_service.application.command.UserSearchPage;
+import com.vendo.user_service.application.command.UserSearchQuery;
+import com.vendo.user_service.application.exception.BatchLimitExceededException;
+import com.vendo.user_service.application.exception.InvalidExportFieldException;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
 import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.infrastructure.props.BatchProps;
+import com.vendo.user_service.infrastructure.props.BulkProps;
+import com.vendo.user_service.infrastructure.props.ExportProps;
+import com.vendo.user_service.infrastructure.props.SearchProps;
 import com.vendo.user_service.port.user.InternalUserUseCase;
 import com.vendo.user_service.port.user.UserCommandPort;
 import com.vendo.user_service.port.user.UserQueryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 @Service
 @RequiredArgsConstructor
 public class InternalUserService implements InternalUserUseCase {
 
+    private static final Set<String> EXPORT_FIELDS = Set.of(
+            "id", "email", "emailVerified", "roles", "status", "providerType",
+            "birthDate", "fullName", "createdAt", "updatedAt");
+
     private final UserCommandPort userCommandPort;
 
     private final UserQueryPort userQueryPort;
 
+    private final BatchProps batchProps;
+
+    private final BulkProps bulkProps;
+
+    private final ExportProps exportProps;
+
+    private final SearchProps searchProps;
+
     @Override
     public User getById(String id) {
         return userQueryPort.getById(id);
@@ -28,6 +64,28 @@ public class InternalUserService implements InternalUserUseCase {
         return userQueryPort.getByEmail(email);
     }
 
+    @Override
+    public UserSummary getSummaryById(String id) {
+        return userQueryPort.getSummaryById(id);
+    }
+
+    @Override
+    public UserSummary getSummaryByEmail(String email) {
+        return userQueryPort.getSummaryByEmail(email);
+    }
+
+    @Override
+    public BatchUserResponse getByIds(List<String> ids) {
+        checkBatchLimit(ids);
+        return BatchUserResponse.of(ids, userQueryPort.getByIds(new LinkedHashSet<>(ids)));
+    }
+
+    @Override
+    public BatchUserResponse getByEmails(List<String> emails) {
+        checkBatchLimit(emails);
+        return BatchUserResponse.of(emails, userQueryPort.getByEmails(new LinkedHashSet<>(emails)));
+    }
+
     @Override
     public ExistsUserResponse existsByEmail(String email) {
         return ExistsUserResponse.builder().exists(userQueryPort.existsByEmail(email)).build();
@@ -42,4 +100,99 @@ public class InternalUserService implements InternalUserUseCase {
     public User save(SaveUserRequest body) {
         return userCommandPort.save(body);
     }
+
+    /**
+     * Writes the rows in chunks of {@code users.bulk.chunk-size} and hands each chunk's results to
+     * {@code sink}, ordered by line, before reading further. Only one chunk is held at a time.
+     */
+    @Override
+    public void importUsers(Iterator<BulkUserRow> rows, boolean upsert, Consumer<List<BulkUserResult>> sink) {
+        int chunkSize = bulkProps.getChunkSize();
+        List<BulkUserRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                sink.accept(importChunk(chunk, upsert));
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            sink.accept(importChunk(chunk, upsert));
+        }
+    }
+
+    /**
+     * Hands every matching user to {@code sink} as it is read from the cursor. A slow sink slows
+     * the cursor down instead of buffering users.
+     */
+    @Override
+    public void exportUsers(UserExportQuery query, Consumer<User> sink) {
+        if (query.fields() != null) {
+            query.fields().stream()
+                    .filter(field -> !EXPORT_FIELDS.contains(field))
+                    .findFirst()
+                    .ifPresent(field -> {
+                        throw new InvalidExportFieldException("Unknown export field %s.".formatted(field));
+                    });
+        }
+
+        int batchSize = query.batchSize() != null ? query.batchSize() : exportProps.getBatchSize();
+        UserExportQuery bounded = query.toBuilder()
+                .batchSize(Math.clamp(batchSize, 1, exportProps.getMaxBatchSize()))
+                .build();
+
+        try (Stream<User> users = userQueryPort.streamAll(bounded)) {
+            users.forEach(sink);
+        }
+    }
+
+    /**
+     * Reads one user past the page to learn whether another page follows, so the last page never
+     * costs an extra empty round trip.
+     */
+    @Override
+    public UserSearchPage search(UserSearchQuery query) {
+        int limit = Math.clamp(query.limit() != null ? query.limit() : searchProps.getDefaultLimit(), 1, searchProps.getMaxLimit());
+        List<User> users = userQueryPort.search(query.toBuilder().limit(limit + 1).build());
+
+        if (users.size() <= limit) {
+            return new UserSearchPage(users, null);
+        }
+
+        List<User> page = users.subList(0, limit);
+        return new UserSearchPage(page, UserSearchCursor.of(page.getLast()).encode());
+    }
+
+    private List<BulkUserResult> importChunk(List<BulkUserRow> chunk, boolean upsert) {
+        List<BulkUserResult> results = new ArrayList<>(chunk.size());
+        List<BulkUserRow> valid = new ArrayList<>(chunk.size());
+
+        for (BulkUserRow row : chunk) {
+            if (row.isValid()) {
+                valid.add(row);
+            } else {
+                results.add(BulkUserResult.failed(null, BulkUserStatus.INVALID, row.error()).atLine(row.line()));
+            }
+        }
+
+        if (!valid.isEmpty()) {
+            List<SaveUserRequest> bodies = valid.stream().map(BulkUserRow::request).toList();
+            List<BulkUserResult> written = upsert ? userCommandPort.upsertAll(bodies) : userCommandPort.saveAll(bodies);
+
+            for (int i = 0; i < valid.size(); i++) {
+                results.add(written.get(i).atLine(valid.get(i).line()));
+            }
+        }
+
+        results.sort(Comparator.comparingLong(BulkUserResult::line));
+        return results;
+    }
+
+    private void checkBatchLimit(List<String> keys) {
+        if (keys.size() > batchProps.getMaxSize()) {
+            throw new BatchLimitExceededException("Batch size exceeds limit of %d.".formatted(batchProps.getMaxSize()));
+        }
+    }
 }
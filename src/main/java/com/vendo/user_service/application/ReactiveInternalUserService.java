@@ -0,0 +1,89 @@
+package com.vendo.user_service.application;
+
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.application.exception.BatchLimitExceededException;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import com.vendo.user_service.infrastructure.props.BatchProps;
+import com.vendo.user_service.port.user.ReactiveInternalUserUseCase;
+import com.vendo.user_service.port.user.ReactiveUserCommandPort;
+import com.vendo.user_service.port.user.ReactiveUserQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInternalUserService implements ReactiveInternalUserUseCase {
+
+    private final ReactiveUserCommandPort userCommandPort;
+
+    private final ReactiveUserQueryPort userQueryPort;
+
+    private final BatchProps batchProps;
+
+    @Override
+    public Mono<User> getById(String id) {
+        return userQueryPort.getById(id);
+    }
+
+    @Override
+    public Mono<User> getByEmail(String email) {
+        return userQueryPort.getByEmail(email);
+    }
+
+    @Override
+    public Mono<UserSummary> getSummaryById(String id) {
+        return userQueryPort.getSummaryById(id);
+    }
+
+    @Override
+    public Mono<UserSummary> getSummaryByEmail(String email) {
+        return userQueryPort.getSummaryByEmail(email);
+    }
+
+    @Override
+    public Mono<BatchUserResponse> getByIds(List<String> ids) {
+        return checkBatchLimit(ids)
+                .then(Mono.defer(() -> userQueryPort.getByIds(new LinkedHashSet<>(ids))))
+                .map(users -> BatchUserResponse.of(ids, users));
+    }
+
+    @Override
+    public Mono<BatchUserResponse> getByEmails(List<String> emails) {
+        return checkBatchLimit(emails)
+                .then(Mono.defer(() -> userQueryPort.getByEmails(new LinkedHashSet<>(emails))))
+                .map(users -> BatchUserResponse.of(emails, users));
+    }
+
+    @Override
+    public Mono<ExistsUserResponse> existsByEmail(String email) {
+        return userQueryPort.existsByEmail(email)
+                .map(exists -> ExistsUserResponse.builder().exists(exists).build());
+    }
+
+    @Override
+    public Mono<Void> update(String id, UpdateUserRequest body) {
+        return userCommandPort.update(id, body);
+    }
+
+    @Override
+    public Mono<User> save(SaveUserRequest body) {
+        return userCommandPort.save(body);
+    }
+
+    private Mono<Void> checkBatchLimit(List<String> keys) {
+        if (keys.size() > batchProps.getMaxSize()) {
+            return Mono.error(new BatchLimitExceededException("Batch size exceeds limit of %d.".formatted(batchProps.getMaxSize())));
+        }
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,139 @@
+package com.vendo.user_service.application;
+
+import com.vendo.user_service.application.exception.ChangeFeedResetException;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.infrastructure.props.ChangeFeedProps;
+import com.vendo.user_service.port.user.UserChangeFeedUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Fans user change events out to subscribers and keeps the last {@code users.changes.buffer-size}
+ * of them so a consumer can resume from the last token it saw. Each subscriber has its own bounded
+ * queue and delivery thread; one that falls a full buffer behind is reset.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserChangeFeedService implements UserChangeFeedUseCase {
+
+    private final ChangeFeedProps props;
+
+    private final Deque<UserChangeEvent> buffer = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public synchronized void publish(UserChangeEvent event) {
+        buffer.addLast(event);
+        while (buffer.size() > props.getBufferSize()) {
+            buffer.removeFirst();
+        }
+
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    @Override
+    public synchronized List<UserChangeEvent> eventsAfter(String since) {
+        if (since == null) {
+            return List.of();
+        }
+
+        List<UserChangeEvent> events = new ArrayList<>();
+        Iterator<UserChangeEvent> iterator = buffer.descendingIterator();
+        while (iterator.hasNext()) {
+            UserChangeEvent event = iterator.next();
+            if (event.token().equals(since)) {
+                return events.reversed();
+            }
+            events.add(event);
+        }
+
+        throw new ChangeFeedResetException("Change %s is no longer available, resync and subscribe without since.".formatted(since));
+    }
+
+    @Override
+    public Subscription subscribe(String since, Consumer<UserChangeEvent> listener, Runnable onReset) {
+        Subscriber subscriber = new Subscriber(listener, onReset);
+
+        synchronized (this) {
+            try {
+                eventsAfter(since).forEach(subscriber::offer);
+            } catch (ChangeFeedResetException e) {
+                onReset.run();
+                return () -> { };
+            }
+            subscribers.add(subscriber);
+        }
+
+        subscriber.start();
+        return subscriber;
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final BlockingQueue<UserChangeEvent> queue = new ArrayBlockingQueue<>(props.getBufferSize());
+        private final Consumer<UserChangeEvent> listener;
+        private final Runnable onReset;
+
+        private volatile Thread thread;
+        private volatile boolean overflowed;
+
+        private Subscriber(Consumer<UserChangeEvent> listener, Runnable onReset) {
+            this.listener = listener;
+            this.onReset = onReset;
+        }
+
+        private void offer(UserChangeEvent event) {
+            if (!queue.offer(event)) {
+                overflowed = true;
+                subscribers.remove(this);
+                Thread current = thread;
+                if (current != null) {
+                    current.interrupt();
+                }
+            }
+        }
+
+        private void start() {
+            thread = Thread.ofVirtual().name("user-changes-subscriber").start(this::deliver);
+        }
+
+        private void deliver() {
+            try {
+                while (!overflowed) {
+                    listener.accept(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.debug("Change feed subscriber stopped: {}", e.getMessage());
+            } finally {
+                subscribers.remove(this);
+                if (overflowed) {
+                    onReset.run();
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            subscribers.remove(this);
+            Thread current = thread;
+            if (current != null) {
+                current.interrupt();
+            }
+        }
+    }
+}
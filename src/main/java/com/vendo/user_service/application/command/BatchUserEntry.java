@@ -0,0 +1,8 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_service.domain.user.User;
+import lombok.Builder;
+
+@Builder
+public record BatchUserEntry(String key, boolean found, User user) {
+}
@@ -0,0 +1,22 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_service.domain.user.User;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder
+public record BatchUserResponse(List<BatchUserEntry> users) {
+
+    public static BatchUserResponse of(List<String> keys, Map<String, User> users) {
+        List<BatchUserEntry> entries = keys.stream()
+                .map(key -> BatchUserEntry.builder()
+                        .key(key)
+                        .found(users.containsKey(key))
+                        .user(users.get(key))
+                        .build())
+                .toList();
+        return BatchUserResponse.builder().users(entries).build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.vendo.user_service.application.command;
+
+import lombok.Builder;
+
+@Builder(toBuilder = true)
+public record BulkUserResult(long line, String email, String id, BulkUserStatus status, String message) {
+
+    public static BulkUserResult of(String email, String id, BulkUserStatus status) {
+        return BulkUserResult.builder().email(email).id(id).status(status).build();
+    }
+
+    public static BulkUserResult failed(String email, BulkUserStatus status, String message) {
+        return BulkUserResult.builder().email(email).status(status).message(message).build();
+    }
+
+    public BulkUserResult atLine(long line) {
+        return toBuilder().line(line).build();
+    }
+}
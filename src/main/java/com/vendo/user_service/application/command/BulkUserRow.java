@@ -0,0 +1,21 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+
+/**
+ * One line of a bulk import. Either {@code request} or {@code error} is set.
+ */
+public record BulkUserRow(long line, SaveUserRequest request, String error) {
+
+    public static BulkUserRow of(long line, SaveUserRequest request) {
+        return new BulkUserRow(line, request, null);
+    }
+
+    public static BulkUserRow invalid(long line, String error) {
+        return new BulkUserRow(line, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.vendo.user_service.application.command;
+
+public enum BulkUserStatus {
+    CREATED,
+    UPDATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
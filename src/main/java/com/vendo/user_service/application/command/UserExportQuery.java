@@ -0,0 +1,14 @@
+package com.vendo.user_service.application.command;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Filters a user export. {@code since} and {@code fields} are optional; an empty field set exports
+ * whole users.
+ */
+@Builder(toBuilder = true)
+public record UserExportQuery(Instant since, Set<String> fields, Integer batchSize) {
+}
@@ -0,0 +1,44 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_service.application.exception.InvalidSearchCursorException;
+import com.vendo.user_service.domain.user.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position of the last user on a search page in {@code (createdAt, id)} order, exchanged with clients
+ * as an opaque url-safe token.
+ */
+public record UserSearchCursor(Instant createdAt, String id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static UserSearchCursor of(User user) {
+        return new UserSearchCursor(user.getCreatedAt(), user.getId());
+    }
+
+    public static UserSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new InvalidSearchCursorException("Invalid search cursor.");
+            }
+            return new UserSearchCursor(Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator))), value.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchCursorException("Invalid search cursor.");
+        }
+    }
+
+    public String encode() {
+        String value = createdAt.toEpochMilli() + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,12 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_service.domain.user.User;
+
+import java.util.List;
+
+/**
+ * One page of search results. {@code next} is the cursor of the following page, or {@code null} on
+ * the last one.
+ */
+public record UserSearchPage(List<User> users, String next) {
+}
@@ -0,0 +1,25 @@
+package com.vendo.user_service.application.command;
+
+import com.vendo.user_lib.type.ProviderType;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_lib.type.UserStatus;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Filters a user search. Every filter is optional; {@code roles} matches users holding any of the
+ * given roles, {@code createdFrom} is inclusive and {@code createdTo} exclusive. Results start right
+ * after {@code after}, or at the beginning when it is {@code null}.
+ */
+@Builder(toBuilder = true)
+public record UserSearchQuery(UserStatus status,
+                              Set<UserRole> roles,
+                              Boolean emailVerified,
+                              ProviderType providerType,
+                              Instant createdFrom,
+                              Instant createdTo,
+                              UserSearchCursor after,
+                              Integer limit) {
+}
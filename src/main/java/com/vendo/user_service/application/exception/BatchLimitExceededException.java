@@ -0,0 +1,8 @@
+package com.vendo.user_service.application.exception;
+
+public class BatchLimitExceededException extends RuntimeException {
+
+    public BatchLimitExceededException(String message) {
+        super(message);
+    }
+}
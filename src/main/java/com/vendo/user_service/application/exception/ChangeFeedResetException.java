@@ -0,0 +1,8 @@
+package com.vendo.user_service.application.exception;
+
+public class ChangeFeedResetException extends RuntimeException {
+
+    public ChangeFeedResetException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vendo.user_service.application.exception;
+
+public class InvalidExportFieldException extends RuntimeException {
+
+    public InvalidExportFieldException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vendo.user_service.application.exception;
+
+public class InvalidSearchCursorException extends RuntimeException {
+
+    public InvalidSearchCursorException(String message) {
+        super(message);
+    }
+}
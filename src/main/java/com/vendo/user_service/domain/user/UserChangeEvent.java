@@ -0,0 +1,24 @@
+package com.vendo.user_service.domain.user;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One mutation of a stored user. {@code token} is what consumers pass back as {@code since}.
+ * {@code changedFields} holds the fields set by the mutation, or the whole document for inserts and
+ * replaces. {@code updatedAt} is the version the writer stored, and {@code occurredAt} is the server
+ * time of the write.
+ */
+@Builder
+public record UserChangeEvent(
+        String token,
+        String userId,
+        UserChangeType type,
+        Map<String, Object> changedFields,
+        List<String> removedFields,
+        Instant updatedAt,
+        Instant occurredAt) {
+}
@@ -0,0 +1,8 @@
+package com.vendo.user_service.domain.user;
+
+public enum UserChangeType {
+    INSERT,
+    UPDATE,
+    REPLACE,
+    DELETE
+}
@@ -0,0 +1,18 @@
+package com.vendo.user_service.domain.user;
+
+import java.util.Locale;
+
+/**
+ * Email addresses are matched case-insensitively: {@code Foo@x.com} and {@code foo@x.com} are the
+ * same user. Lookups, uniqueness and cache keys all go through {@link #normalize(String)}, while the
+ * address is still stored and returned as it was registered.
+ */
+public final class UserEmails {
+
+    private UserEmails() {
+    }
+
+    public static String normalize(String email) {
+        return email != null ? email.strip().toLowerCase(Locale.ROOT) : null;
+    }
+}
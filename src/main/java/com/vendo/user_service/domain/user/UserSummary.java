@@ -0,0 +1,26 @@
+package com.vendo.user_service.domain.user;
+
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_lib.type.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+
+    private String id;
+    private String email;
+    private boolean emailVerified;
+    private Set<UserRole> roles;
+    private UserStatus status;
+    private Instant updatedAt;
+
+}
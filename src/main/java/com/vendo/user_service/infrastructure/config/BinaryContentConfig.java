@@ -0,0 +1,82 @@
+package com.vendo.user_service.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.vendo.user_service.adapter.user.in.json.BinaryObjectMappers;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets internal callers exchange CBOR ({@code application/cbor}) or Smile
+ * ({@code application/x-jackson-smile}) instead of JSON through {@code Accept} and
+ * {@code Content-Type}. JSON stays first in the converter list, so it remains the default.
+ */
+@Configuration
+public class BinaryContentConfig {
+
+    /**
+     * Built from Boot's {@link Jackson2ObjectMapperBuilder}, so the binary mappers share the JSON
+     * mapper's modules and settings, including the hand-written {@code User} serializer.
+     */
+    @Bean
+    public BinaryObjectMappers binaryObjectMappers(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        return new BinaryObjectMappers(
+                builders.getObject().factory(new CBORFactory()).build(),
+                builders.getObject().factory(new SmileFactory()).build());
+    }
+
+    /**
+     * WebFlux has no default CBOR slot, and custom codecs are consulted before the defaults, so
+     * the JSON encoder is registered ahead of the CBOR one to keep JSON the answer to a wildcard
+     * {@code Accept}.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CodecCustomizer binaryCodecCustomizer(BinaryObjectMappers mappers, ObjectMapper objectMapper) {
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(mappers.smile()));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(mappers.smile()));
+            configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+            configurer.customCodecs().register(new Jackson2CborEncoder(mappers.cbor(), MediaType.APPLICATION_CBOR));
+            configurer.customCodecs().register(new Jackson2CborDecoder(mappers.cbor(), MediaType.APPLICATION_CBOR));
+        };
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @RequiredArgsConstructor
+    static class Servlet implements WebMvcConfigurer {
+
+        private final BinaryObjectMappers mappers;
+
+        /**
+         * Replaces the converters Spring MVC adds on its own when the formats are on the classpath,
+         * which use a default-configured mapper, and appends them after JSON.
+         */
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                    || converter instanceof MappingJackson2SmileHttpMessageConverter);
+            converters.add(new MappingJackson2CborHttpMessageConverter(mappers.cbor()));
+            converters.add(new MappingJackson2SmileHttpMessageConverter(mappers.smile()));
+        }
+    }
+}
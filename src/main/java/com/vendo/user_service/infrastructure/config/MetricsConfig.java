@@ -0,0 +1,20 @@
+package com.vendo.user_service.infrastructure.config;
+
+import com.vendo.user_service.infrastructure.metrics.LatencyTimers;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Static, so the post-processor is created before the beans it wraps without pulling this
+     * configuration in early.
+     */
+    @Bean
+    public static LatencyTimers latencyTimers(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LatencyTimers(meterRegistry);
+    }
+}
@@ -1,9 +1,17 @@
 package com.vendo.user_service.infrastructure.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
 
 @Configuration
 @EnableMongoAuditing
 public class MongoAuditingConfig {
+
+    @Configuration
+    @EnableReactiveMongoAuditing
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+    }
 }
@@ -0,0 +1,30 @@
+package com.vendo.user_service.infrastructure.config;
+
+import com.vendo.user_service.infrastructure.metrics.MongoCommandTimer;
+import com.vendo.user_service.infrastructure.props.MongoPoolProps;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * With virtual threads, request concurrency is no longer capped by the Tomcat pool, so the Mongo
+ * connection pool becomes the limit. A bounded wait time makes excess requests fail fast instead of
+ * queueing for the driver's default two minutes.
+ */
+@Configuration
+public class MongoClientConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(MongoPoolProps props) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(props.getMaxSize())
+                .maxWaitTime(props.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer commandTimerCustomizer(MongoCommandTimer commandTimer) {
+        return builder -> builder.addCommandListener(commandTimer);
+    }
+}
@@ -0,0 +1,46 @@
+package com.vendo.user_service.infrastructure.config;
+
+import com.vendo.user_service.infrastructure.metrics.DispatchTimer;
+import com.vendo.user_service.infrastructure.metrics.SlowRequestFilter;
+import com.vendo.user_service.infrastructure.metrics.SlowRequestRecorder;
+import com.vendo.user_service.infrastructure.metrics.TimedJsonConverter;
+import com.vendo.user_service.infrastructure.props.SlowRequestProps;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wires the slow-request recorder into the servlet stack: the outermost filter, a dispatch
+ * interceptor and a timed JSON converter.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SlowRequestConfig implements WebMvcConfigurer {
+
+    @Bean
+    public FilterRegistrationBean<SlowRequestFilter> slowRequestFilter(SlowRequestRecorder recorder, SlowRequestProps props) {
+        FilterRegistrationBean<SlowRequestFilter> registration = new FilterRegistrationBean<>(new SlowRequestFilter(recorder, props));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new DispatchTimer());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson && !(converter instanceof TimedJsonConverter)
+                ? new TimedJsonConverter(jackson.getObjectMapper())
+                : converter);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records the {@link RequestTrace.Stage#DISPATCH} stage: from handler selection until the handler
+ * and its response body are done.
+ */
+public class DispatchTimer implements HandlerInterceptor {
+
+    private static final String START = DispatchTimer.class.getName() + ".start";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START) instanceof Long start) {
+            RequestTrace.record(RequestTrace.Stage.DISPATCH, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.port.user.UserCommandPort;
+import com.vendo.user_service.port.user.UserQueryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Wraps the user ports in {@code users.port} timers and the {@link UserMapper} in
+ * {@code users.mapper} timers, so a latency regression can be split between the database, the
+ * mapping and the rest of the request. Port calls also tag the Mongo commands they issue.
+ */
+public class LatencyTimers implements BeanPostProcessor {
+
+    private final SingletonSupplier<MeterRegistry> meterRegistry;
+
+    public LatencyTimers(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = SingletonSupplier.of(meterRegistry::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof UserQueryPort) {
+            return proxy(bean, new MethodTimer("users.port", UserQueryPort.class, RequestTrace.Stage.PORT, true, meterRegistry));
+        }
+        if (bean instanceof UserCommandPort) {
+            return proxy(bean, new MethodTimer("users.port", UserCommandPort.class, RequestTrace.Stage.PORT, true, meterRegistry));
+        }
+        if (bean instanceof UserMapper) {
+            return proxy(bean, new MethodTimer("users.mapper", UserMapper.class, RequestTrace.Stage.MAPPING, false, meterRegistry));
+        }
+        return bean;
+    }
+
+    private static Object proxy(Object bean, MethodTimer timer) {
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvice(timer);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
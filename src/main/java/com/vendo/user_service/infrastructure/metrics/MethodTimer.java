@@ -0,0 +1,76 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records every call on a proxied bean in the timer {@code name}, tagged with the bean's
+ * {@code type}, the {@code method} and the {@code exception} it threw ({@code none} on success).
+ * <p>
+ * Each call also adds to {@code stage} of the current {@link RequestTrace}. With {@code operation}
+ * set, the method becomes the current {@link MongoOperation} while it runs. Calls returning a lazy
+ * {@link java.util.stream.Stream} are only timed until the stream is returned.
+ */
+class MethodTimer implements MethodInterceptor {
+
+    private final String name;
+    private final String type;
+    private final RequestTrace.Stage stage;
+    private final boolean operation;
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    private final ConcurrentMap<Method, ConcurrentMap<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    MethodTimer(String name, Class<?> type, RequestTrace.Stage stage, boolean operation, Supplier<MeterRegistry> meterRegistry) {
+        this.name = name;
+        this.type = type.getSimpleName();
+        this.stage = stage;
+        this.operation = operation;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        String previous = operation ? MongoOperation.enter(type + "." + method.getName()) : null;
+        long start = System.nanoTime();
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(exception, key -> timer(method, key))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            RequestTrace.record(stage, nanos);
+
+            if (operation) {
+                MongoOperation.exit(previous);
+            }
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(name)
+                .tag("type", type)
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry.get());
+    }
+}
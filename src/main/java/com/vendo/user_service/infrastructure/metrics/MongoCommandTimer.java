@@ -0,0 +1,139 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.vendo.user_service.infrastructure.props.MongoCommandProps;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every collection command as {@code users.mongo.commands} and records the documents it
+ * returned or affected as {@code users.mongo.documents}, tagged with the command, the collection and
+ * the {@link MongoOperation} that issued it. Commands slower than {@code mongo.commands.slow-threshold}
+ * are logged with the names of the fields they filter on, never the values.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoCommandTimer implements CommandListener {
+
+    private static final List<String> FILTER_FIELDS = List.of("filter", "query", "q");
+
+    private final ConcurrentMap<Integer, Started> started = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterKey, DistributionSummary> documentCounts = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final MongoCommandProps props;
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonValue collection = event.getCommand().get(event.getCommandName());
+        if (collection == null || !collection.isString()) {
+            return;
+        }
+
+        started.put(event.getRequestId(), new Started(collection.asString().getValue(), MongoOperation.current(), filterFields(event.getCommand())));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        int documents = documents(event.getResponse());
+
+        MeterKey key = new MeterKey(event.getCommandName(), command.collection(), command.operation(), "success");
+        timers.computeIfAbsent(key, this::timer).record(nanos, TimeUnit.NANOSECONDS);
+        documentCounts.computeIfAbsent(key, this::documentCount).record(documents);
+
+        if (nanos >= props.getSlowThreshold().toNanos()) {
+            log.warn("Slow Mongo command {} on {} by {}: {} ms, {} documents, filter on {}.",
+                    event.getCommandName(), command.collection(), command.operation(), TimeUnit.NANOSECONDS.toMillis(nanos), documents, command.filterFields());
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+
+        MeterKey key = new MeterKey(event.getCommandName(), command.collection(), command.operation(), "failure");
+        timers.computeIfAbsent(key, this::timer).record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(MeterKey key) {
+        return Timer.builder("users.mongo.commands")
+                .description("Mongo command latency by the port method that issued it")
+                .tag("command", key.command())
+                .tag("collection", key.collection())
+                .tag("operation", key.operation())
+                .tag("status", key.status())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary documentCount(MeterKey key) {
+        return DistributionSummary.builder("users.mongo.documents")
+                .description("Documents returned or affected per Mongo command")
+                .tag("command", key.command())
+                .tag("collection", key.collection())
+                .tag("operation", key.operation())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts the documents in a cursor batch, or reads {@code n} for counts and writes.
+     */
+    private static int documents(BsonDocument response) {
+        if (response.get("cursor") instanceof BsonDocument cursor) {
+            BsonValue batch = cursor.containsKey("firstBatch") ? cursor.get("firstBatch") : cursor.get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+        }
+        if (response.get("n") instanceof BsonValue n && n.isNumber()) {
+            return n.asNumber().intValue();
+        }
+        if (response.containsKey("value")) {
+            return response.get("value").isNull() ? 0 : 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the filter's field names while the command is still readable; the driver releases it
+     * once the listener returns.
+     */
+    private static String filterFields(BsonDocument command) {
+        for (String field : FILTER_FIELDS) {
+            if (command.get(field) instanceof BsonDocument filter) {
+                return filter.keySet().toString();
+            }
+        }
+        return "[]";
+    }
+
+    private record Started(String collection, String operation, String filterFields) { }
+
+    private record MeterKey(String command, String collection, String operation, String status) { }
+}
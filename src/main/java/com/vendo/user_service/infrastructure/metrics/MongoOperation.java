@@ -0,0 +1,38 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+/**
+ * The port method running on the current thread, so {@link MongoCommandTimer} can attribute each
+ * command to the call that issued it. Commands issued outside a port call, e.g. by the change feed,
+ * the lookup batcher's flush threads or the reactive driver, are reported as {@value #NONE}.
+ */
+public final class MongoOperation {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private MongoOperation() {
+    }
+
+    public static String current() {
+        String operation = CURRENT.get();
+        return operation != null ? operation : NONE;
+    }
+
+    /**
+     * Makes {@code operation} current and returns the previous one, to be handed to {@link #exit(String)}.
+     */
+    static String enter(String operation) {
+        String previous = CURRENT.get();
+        CURRENT.set(operation);
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+/**
+ * Per-request stage timings for the slow-request recorder, bound to the request thread by
+ * {@link SlowRequestFilter}. Stages nest: dispatch includes port calls, which include mapping, and
+ * serialization of a response body happens inside dispatch too. Work done on other threads, such as
+ * batched lookups, is not attributed.
+ */
+public final class RequestTrace {
+
+    public enum Stage { PATH_MATCH, AUTH, DISPATCH, PORT, MAPPING, SERIALIZATION }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    final long[] nanos = new long[STAGES.length];
+    final int[] calls = new int[STAGES.length];
+
+    RequestTrace() {
+    }
+
+    /**
+     * Adds {@code nanos} to {@code stage} of the current request, if it is being traced.
+     */
+    public static void record(Stage stage, long nanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.nanos[stage.ordinal()] += nanos;
+            trace.calls[stage.ordinal()]++;
+        }
+    }
+
+    static Stage[] stages() {
+        return STAGES;
+    }
+
+    static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,56 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR counterpart of a {@link SlowRequestRecorder} entry, emitted with
+ * {@code users.slow-requests.jfr-events} so slow requests line up with GC, lock and I/O events in a
+ * recording.
+ */
+@Name("com.vendo.user_service.SlowRequest")
+@Label("Slow Request")
+@Category({"Vendo", "User Service"})
+@Description("A request slower than users.slow-requests.threshold, with its stage timings")
+class SlowRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    @Label("Total")
+    @Timespan
+    long total;
+
+    @Label("Path Matching")
+    @Timespan
+    long pathMatch;
+
+    @Label("Authentication")
+    @Timespan
+    long auth;
+
+    @Label("Dispatch")
+    @Timespan
+    long dispatch;
+
+    @Label("Port Calls")
+    @Timespan
+    long port;
+
+    @Label("Mapping")
+    @Timespan
+    long mapping;
+
+    @Label("Serialization")
+    @Timespan
+    long serialization;
+}
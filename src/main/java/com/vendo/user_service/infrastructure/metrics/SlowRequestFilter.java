@@ -0,0 +1,46 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.vendo.user_service.infrastructure.props.SlowRequestProps;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Traces each request from the outermost filter and hands the slow ones to
+ * {@link SlowRequestRecorder}. Asynchronous requests, i.e. the change feed, and
+ * {@code users.slow-requests.excluded-paths} are long-running by design and never recorded.
+ */
+@RequiredArgsConstructor
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private final SlowRequestRecorder recorder;
+
+    private final SlowRequestProps props;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long total = System.nanoTime() - start;
+            RequestTrace.end();
+
+            if (recorder.isSlow(total) && !request.isAsyncStarted()) {
+                recorder.record(request.getMethod(), request.getRequestURI(), response.getStatus(), total, trace);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !props.isEnabled() || props.getExcludedPaths().stream().anyMatch(path::startsWith);
+    }
+}
@@ -0,0 +1,100 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.vendo.user_service.infrastructure.props.SlowRequestProps;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring of the last {@code users.slow-requests.capacity} requests slower than
+ * {@code users.slow-requests.threshold}. Recording claims a slot with an atomic increment and keeps
+ * the request's own {@link RequestTrace} arrays.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private final SlowRequestProps props;
+
+    private final AtomicReferenceArray<Entry> ring;
+    private final AtomicLong next = new AtomicLong();
+
+    public SlowRequestRecorder(SlowRequestProps props) {
+        this.props = props;
+        this.ring = new AtomicReferenceArray<>(Math.max(1, props.getCapacity()));
+    }
+
+    public boolean isSlow(long totalNanos) {
+        return totalNanos >= props.getThreshold().toNanos();
+    }
+
+    void record(String method, String path, int status, long totalNanos, RequestTrace trace) {
+        Entry entry = new Entry(System.currentTimeMillis(), method, path, status, totalNanos, trace.nanos, trace.calls);
+        ring.set((int) (next.getAndIncrement() % ring.length()), entry);
+
+        if (props.isJfrEvents()) {
+            emit(entry);
+        }
+    }
+
+    /**
+     * Returns the recorded requests, newest first, with stage timings in milliseconds.
+     */
+    public List<SlowRequest> snapshot() {
+        long end = next.get();
+        long start = Math.max(0, end - ring.length());
+
+        List<SlowRequest> requests = new ArrayList<>((int) (end - start));
+        for (long i = end - 1; i >= start; i--) {
+            Entry entry = ring.get((int) (i % ring.length()));
+            if (entry != null) {
+                requests.add(entry.toSlowRequest());
+            }
+        }
+        return requests;
+    }
+
+    private static void emit(Entry entry) {
+        SlowRequestEvent event = new SlowRequestEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        event.method = entry.method();
+        event.path = entry.path();
+        event.status = entry.status();
+        event.total = entry.totalNanos();
+        event.pathMatch = entry.nanos()[RequestTrace.Stage.PATH_MATCH.ordinal()];
+        event.auth = entry.nanos()[RequestTrace.Stage.AUTH.ordinal()];
+        event.dispatch = entry.nanos()[RequestTrace.Stage.DISPATCH.ordinal()];
+        event.port = entry.nanos()[RequestTrace.Stage.PORT.ordinal()];
+        event.mapping = entry.nanos()[RequestTrace.Stage.MAPPING.ordinal()];
+        event.serialization = entry.nanos()[RequestTrace.Stage.SERIALIZATION.ordinal()];
+        event.commit();
+    }
+
+    public record SlowRequest(Instant at, String method, String path, int status, double totalMs, Map<String, Stage> stages) { }
+
+    public record Stage(double ms, int calls) { }
+
+    private record Entry(long epochMillis, String method, String path, int status, long totalNanos, long[] nanos, int[] calls) {
+
+        private SlowRequest toSlowRequest() {
+            Map<String, Stage> stages = new LinkedHashMap<>();
+            for (RequestTrace.Stage stage : RequestTrace.stages()) {
+                stages.put(stage.name().toLowerCase(), new Stage(millis(nanos[stage.ordinal()]), calls[stage.ordinal()]));
+            }
+            return new SlowRequest(Instant.ofEpochMilli(epochMillis), method, path, status, millis(totalNanos), stages);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exposes {@link SlowRequestRecorder} as {@code /actuator/slowrequests}.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestRecorder recorder;
+
+    @ReadOperation
+    public List<SlowRequestRecorder.SlowRequest> slowRequests() {
+        return recorder.snapshot();
+    }
+}
@@ -0,0 +1,30 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter that records response body writes as the
+ * {@link RequestTrace.Stage#SERIALIZATION} stage.
+ */
+public class TimedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.record(RequestTrace.Stage.SERIALIZATION, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "users.bulk")
+public class BulkProps {
+
+    private int chunkSize = 1_000;
+
+}
@@ -0,0 +1,30 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "users.changes")
+public class ChangeFeedProps {
+
+    private boolean enabled = true;
+
+    private int bufferSize = 10_000;
+
+    private Duration sseTimeout = Duration.ofMinutes(30);
+
+    private Duration pollTimeout = Duration.ofSeconds(30);
+
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    private String consumerId;
+
+    private Duration tokenSaveInterval = Duration.ofSeconds(5);
+
+}
@@ -0,0 +1,18 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "users.export")
+public class ExportProps {
+
+    private int batchSize = 1_000;
+
+    private int maxBatchSize = 10_000;
+
+}
@@ -0,0 +1,18 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mongo.commands")
+public class MongoCommandProps {
+
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+}
@@ -0,0 +1,20 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mongo.pool")
+public class MongoPoolProps {
+
+    private int maxSize = 100;
+
+    private Duration maxWaitTime = Duration.ofSeconds(5);
+
+}
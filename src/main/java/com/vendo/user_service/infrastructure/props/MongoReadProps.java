@@ -0,0 +1,22 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mongo.read")
+public class MongoReadProps {
+
+    private String preference = "primary";
+
+    private Duration maxStaleness = Duration.ofSeconds(90);
+
+    private boolean readYourWrites = true;
+
+}
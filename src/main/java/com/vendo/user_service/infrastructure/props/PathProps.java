@@ -5,10 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @Getter
 @Setter
@@ -19,8 +17,11 @@ public class PathProps {
     private Set<String> general;
 
     public String[] getAllPaths() {
-        return Stream.of(general)
-                .flatMap(Collection::stream)
+        if (general == null) {
+            return new String[0];
+        }
+
+        return general.stream()
                 .filter(Objects::nonNull)
                 .toArray(String[]::new);
     }
@@ -0,0 +1,27 @@
+package com.vendo.user_service.infrastructure.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "users.slow-requests")
+public class SlowRequestProps {
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(500);
+
+    private int capacity = 256;
+
+    private boolean jfrEvents = false;
+
+    private List<String> excludedPaths = List.of("/internal/users/export", "/actuator");
+
+}
@@ -2,17 +2,40 @@ package com.vendo.user_service.port.user;
 
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserRow;
 import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchPage;
+import com.vendo.user_service.application.command.UserSearchQuery;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface InternalUserUseCase {
 
     User getById(String id);
     User getByEmail(String email);
 
+    UserSummary getSummaryById(String id);
+    UserSummary getSummaryByEmail(String email);
+
+    BatchUserResponse getByIds(List<String> ids);
+    BatchUserResponse getByEmails(List<String> emails);
+
     ExistsUserResponse existsByEmail(String email);
 
     void update(String id, UpdateUserRequest body);
     User save(SaveUserRequest body);
 
+    void importUsers(Iterator<BulkUserRow> rows, boolean upsert, Consumer<List<BulkUserResult>> sink);
+
+    void exportUsers(UserExportQuery query, Consumer<User> sink);
+
+    UserSearchPage search(UserSearchQuery query);
+
 }
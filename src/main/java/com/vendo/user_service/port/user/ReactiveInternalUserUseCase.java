@@ -0,0 +1,29 @@
+package com.vendo.user_service.port.user;
+
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveInternalUserUseCase {
+
+    Mono<User> getById(String id);
+    Mono<User> getByEmail(String email);
+
+    Mono<UserSummary> getSummaryById(String id);
+    Mono<UserSummary> getSummaryByEmail(String email);
+
+    Mono<BatchUserResponse> getByIds(List<String> ids);
+    Mono<BatchUserResponse> getByEmails(List<String> emails);
+
+    Mono<ExistsUserResponse> existsByEmail(String email);
+
+    Mono<Void> update(String id, UpdateUserRequest body);
+    Mono<User> save(SaveUserRequest body);
+
+}
@@ -0,0 +1,14 @@
+package com.vendo.user_service.port.user;
+
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.domain.user.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserCommandPort {
+
+    Mono<User> save(SaveUserRequest body);
+
+    Mono<Void> update(String userId, UpdateUserRequest body);
+
+}
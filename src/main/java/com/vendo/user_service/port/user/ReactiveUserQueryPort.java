@@ -0,0 +1,26 @@
+package com.vendo.user_service.port.user;
+
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ReactiveUserQueryPort {
+
+    Mono<User> getById(String id);
+
+    Mono<User> getByEmail(String email);
+
+    Mono<UserSummary> getSummaryById(String id);
+
+    Mono<UserSummary> getSummaryByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Mono<Map<String, User>> getByIds(Collection<String> ids);
+
+    Mono<Map<String, User>> getByEmails(Collection<String> emails);
+
+}
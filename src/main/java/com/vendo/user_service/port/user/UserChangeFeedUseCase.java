@@ -0,0 +1,29 @@
+package com.vendo.user_service.port.user;
+
+import com.vendo.user_service.domain.user.UserChangeEvent;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface UserChangeFeedUseCase {
+
+    void publish(UserChangeEvent event);
+
+    /**
+     * Returns the buffered events after {@code since}, or none when {@code since} is {@code null}.
+     */
+    List<UserChangeEvent> eventsAfter(String since);
+
+    /**
+     * Delivers the buffered events after {@code since} and then every new event to {@code listener},
+     * on a thread of its own. {@code onReset} runs instead when {@code since} is no longer buffered
+     * or the subscriber falls more than a buffer behind; the subscription is closed in both cases.
+     */
+    Subscription subscribe(String since, Consumer<UserChangeEvent> listener, Runnable onReset);
+
+    interface Subscription {
+
+        void cancel();
+
+    }
+}
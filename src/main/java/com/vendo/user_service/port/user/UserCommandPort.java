@@ -2,12 +2,26 @@ package com.vendo.user_service.port.user;
 
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.application.command.BulkUserResult;
 import com.vendo.user_service.domain.user.User;
 
+import java.util.List;
+
 public interface UserCommandPort {
 
     User save(SaveUserRequest body);
 
     void update(String userId, UpdateUserRequest body);
 
+    /**
+     * Inserts every user in one unordered bulk write. The result at each position describes the
+     * request at the same position; a rejected row does not stop the others.
+     */
+    List<BulkUserResult> saveAll(List<SaveUserRequest> bodies);
+
+    /**
+     * Like {@link #saveAll(List)}, but replaces the stored fields of users whose email already exists.
+     */
+    List<BulkUserResult> upsertAll(List<SaveUserRequest> bodies);
+
 }
\ No newline at end of file
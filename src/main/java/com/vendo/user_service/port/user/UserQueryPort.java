@@ -1,6 +1,14 @@
 package com.vendo.user_service.port.user;
 
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchQuery;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface UserQueryPort {
 
@@ -8,6 +16,26 @@ public interface UserQueryPort {
 
     User getByEmail(String email);
 
+    UserSummary getSummaryById(String id);
+
+    UserSummary getSummaryByEmail(String email);
+
     boolean existsByEmail(String email);
 
+    Map<String, User> getByIds(Collection<String> ids);
+
+    Map<String, User> getByEmails(Collection<String> emails);
+
+    /**
+     * Streams every matching user from a database cursor. The stream holds the cursor open and
+     * must be closed by the caller.
+     */
+    Stream<User> streamAll(UserExportQuery query);
+
+    /**
+     * Returns up to {@code query.limit()} matching users in {@code (createdAt, id)} order, starting
+     * right after {@code query.after()}.
+     */
+    List<User> search(UserSearchQuery query);
+
 }
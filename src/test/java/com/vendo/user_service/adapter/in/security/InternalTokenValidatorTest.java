@@ -0,0 +1,107 @@
+package com.vendo.user_service.adapter.in.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.security_starter.jwt.parser.TokenClaims;
+import com.vendo.security_starter.jwt.parser.TokenClaimsParser;
+import com.vendo.user_service.adapter.in.security.builder.TokenClaimsDataBuilder;
+import com.vendo.user_service.adapter.security.in.InternalTokenValidator;
+import com.vendo.user_service.adapter.security.out.props.JwtProperties;
+import com.vendo.user_service.adapter.security.out.props.TokenCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class InternalTokenValidatorTest {
+
+    private static final String KEY = "internalKey";
+
+    private TokenClaimsParser tokenClaimsParser;
+
+    private InternalTokenValidator internalTokenValidator;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setInternal(new JwtProperties.Internal(KEY));
+
+        tokenClaimsParser = mock(TokenClaimsParser.class);
+        internalTokenValidator = new InternalTokenValidator(
+                props,
+                tokenClaimsParser,
+                new ObjectMapper(),
+                new TokenCacheProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void validate_shouldVerifyTokenOnce_whenTokenIsReused() {
+        String token = jwt(Instant.now().plusSeconds(60));
+        TokenClaims claims = TokenClaimsDataBuilder.buildWithAllFields().build();
+
+        when(tokenClaimsParser.extract(token, KEY)).thenReturn(claims);
+
+        assertThat(internalTokenValidator.validate(token)).isEqualTo(claims);
+        assertThat(internalTokenValidator.validate(token)).isEqualTo(claims);
+
+        verify(tokenClaimsParser, times(1)).extract(token, KEY);
+    }
+
+    @Test
+    void validate_shouldVerifyAgain_whenTokenIsTampered() {
+        String token = jwt(Instant.now().plusSeconds(60));
+        String tampered = token.substring(0, token.length() - 1) + "x";
+        TokenClaims claims = TokenClaimsDataBuilder.buildWithAllFields().build();
+
+        when(tokenClaimsParser.extract(token, KEY)).thenReturn(claims);
+        when(tokenClaimsParser.extract(tampered, KEY)).thenThrow(new BadCredentialsException("Invalid signature."));
+
+        internalTokenValidator.validate(token);
+
+        assertThatThrownBy(() -> internalTokenValidator.validate(tampered)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void validate_shouldNotCache_whenTokenIsExpired() {
+        String token = jwt(Instant.now().minusSeconds(1));
+        TokenClaims claims = TokenClaimsDataBuilder.buildWithAllFields().build();
+
+        when(tokenClaimsParser.extract(token, KEY))
+                .thenReturn(claims)
+                .thenThrow(new BadCredentialsException("Token expired."));
+
+        internalTokenValidator.validate(token);
+
+        assertThatThrownBy(() -> internalTokenValidator.validate(token)).isInstanceOf(BadCredentialsException.class);
+        verify(tokenClaimsParser, times(2)).extract(anyString(), eq(KEY));
+    }
+
+    @Test
+    void validate_shouldNotCache_whenClaimsAreRejected() {
+        String token = jwt(Instant.now().plusSeconds(60));
+        TokenClaims claims = TokenClaimsDataBuilder.buildWithAllFields().subject("unknown").build();
+
+        when(tokenClaimsParser.extract(token, KEY)).thenReturn(claims);
+
+        assertThatThrownBy(() -> internalTokenValidator.validate(token)).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> internalTokenValidator.validate(token)).isInstanceOf(BadCredentialsException.class);
+
+        verify(tokenClaimsParser, times(2)).extract(token, KEY);
+    }
+
+    private static String jwt(Instant expiresAt) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString("{\"sub\":\"auth-service\",\"exp\":%d}".formatted(expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
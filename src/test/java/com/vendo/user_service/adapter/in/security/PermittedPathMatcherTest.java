@@ -0,0 +1,71 @@
+package com.vendo.user_service.adapter.in.security;
+
+import com.vendo.user_service.adapter.security.in.PermittedPathMatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class PermittedPathMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/actuator/health",
+            "/actuator/info/**",
+            "/public/**",
+            "/internal/*/ping",
+            "/docs/{id}",
+            "/files/**/meta"
+    );
+
+    private static final List<String> PATHS = List.of(
+            "/actuator/health",
+            "/actuator/health/",
+            "/actuator/healthz",
+            "/actuator/info",
+            "/actuator/info/",
+            "/actuator/info/git",
+            "/actuator/infos",
+            "/public",
+            "/public/a/b/c",
+            "/publicity",
+            "/internal/test/ping",
+            "/internal/test/pong",
+            "/internal/a/b/ping",
+            "/docs/42",
+            "/docs/42/raw",
+            "/files/a/b/meta",
+            "/files/meta",
+            "/internal/users",
+            "/",
+            ""
+    );
+
+    @Test
+    void matches_shouldAgreeWithAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        PermittedPathMatcher matcher = PermittedPathMatcher.compile(PATTERNS);
+
+        for (String path : PATHS) {
+            boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void matches_shouldMatchEverything_whenPatternIsRootWildcard() {
+        PermittedPathMatcher matcher = PermittedPathMatcher.compile(List.of("/**"));
+
+        assertThat(matcher.matches("/")).isTrue();
+        assertThat(matcher.matches("/internal/users")).isTrue();
+    }
+
+    @Test
+    void matches_shouldMatchNothing_whenNoPatterns() {
+        PermittedPathMatcher matcher = PermittedPathMatcher.compile(null);
+
+        assertThat(matcher.matches("/actuator/health")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+}
@@ -1,36 +1,70 @@
 package com.vendo.user_service.adapter.in.user;
 
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vendo.core_lib.utils.AssertionUtils;
 import com.vendo.security_lib.exception.response.ExceptionResponse;
 import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_lib.type.UserStatus;
+import com.vendo.user_service.adapter.user.in.dto.BatchUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
 import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.in.json.BinaryObjectMappers;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.cache.UserResponseCache;
+import com.vendo.user_service.adapter.user.out.persistence.ReadAfter;
 import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.application.command.BatchUserResponse;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserStatus;
 import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.application.command.UserExportQuery;
+import com.vendo.user_service.application.command.UserSearchCursor;
+import com.vendo.user_service.application.command.UserSearchPage;
+import com.vendo.user_service.application.command.UserSearchQuery;
 import com.vendo.user_service.test_utils.builder.SaveUserRequestDataBuilder;
 import com.vendo.user_service.test_utils.builder.UpdateUserRequestDataBuilder;
 import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.domain.user.UserChangeType;
+import com.vendo.user_service.domain.user.UserSummary;
 import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import com.vendo.user_service.port.user.UserChangeFeedUseCase;
 import com.vendo.user_service.port.user.UserCommandPort;
 import com.vendo.user_service.port.user.UserQueryPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static com.vendo.user_service.adapter.out.security.util.SecurityContextUtils.initAuth;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -44,6 +78,9 @@ public class InternalUserControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private BinaryObjectMappers binaryObjectMappers;
+
     @MockitoBean
     private UserQueryPort userQueryPort;
 
@@ -53,6 +90,105 @@ public class InternalUserControllerTest {
     @MockitoBean
     private UserMapper userMapper;
 
+    @Autowired
+    private UserChangeFeedUseCase userChangeFeed;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache.evictAll();
+        responseCache.evictAll();
+    }
+
+    @Test
+    void getById_shouldServeCachedResponse_withEtag() throws Exception {
+        User user = UserDataBuilder.withAllFields().updatedAt(Instant.parse("2025-01-01T00:00:00.123Z")).build();
+        userCache.cache(user);
+
+        when(userQueryPort.getById(user.getId())).thenReturn(user);
+
+        MvcResult first = mockMvc.perform(get("/internal/users")
+                        .param("id", user.getId())
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"id-1735689600123\""))
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/internal/users")
+                        .param("id", user.getId())
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        AssertionUtils.assertFrom(user, objectMapper.readValue(second.getResponse().getContentAsString(), User.class));
+        verify(userQueryPort, times(1)).getById(user.getId());
+    }
+
+    @Test
+    void getById_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        User user = UserDataBuilder.withAllFields().updatedAt(Instant.parse("2025-01-01T00:00:00Z")).build();
+        userCache.cache(user);
+
+        when(userQueryPort.getById(user.getId())).thenReturn(user);
+
+        String etag = mockMvc.perform(get("/internal/users")
+                        .param("id", user.getId())
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/internal/users")
+                        .param("id", user.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(userQueryPort, times(1)).getById(user.getId());
+    }
+
+    @Test
+    void getById_shouldBypassCache_whenReadAfterTokenIsSent() throws Exception {
+        User user = UserDataBuilder.withAllFields().updatedAt(Instant.parse("2025-01-01T00:00:00Z")).build();
+
+        when(userQueryPort.getById(user.getId())).thenReturn(user);
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/internal/users")
+                            .param("id", user.getId())
+                            .header(ReadAfter.HEADER, "1700000000.3")
+                            .with(authentication(initAuth(null, null))))
+                    .andExpect(status().isOk());
+        }
+
+        verify(userQueryPort, times(2)).getById(user.getId());
+        assertThat(responseCache.getIfPresent(user.getId())).isNull();
+    }
+
+    @Test
+    void update_shouldEvictCachedResponse() throws Exception {
+        User user = UserDataBuilder.withAllFields().updatedAt(Instant.parse("2025-01-01T00:00:00Z")).build();
+        UpdateUserRequest request = UpdateUserRequestDataBuilder.withAllFields().build();
+        userCache.cache(user);
+        responseCache.cache(user);
+        assertThat(responseCache.getIfPresent(user.getId())).isNotNull();
+
+        mockMvc.perform(put("/internal/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .param("id", user.getId())
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk());
+
+        assertThat(responseCache.getIfPresent(user.getId())).isNull();
+    }
+
     @Test
     void getByEmail_shouldReturnUser() throws Exception {
         User user = UserDataBuilder.withAllFields().build();
@@ -135,6 +271,32 @@ public class InternalUserControllerTest {
         assertThat(exceptionResponse.getTimestamp()).isNotNull();
     }
 
+    @Test
+    void getSummaryById_shouldReturnSummary() throws Exception {
+        UserSummary summary = UserSummary.builder()
+                .id("id")
+                .email("test@mail.com")
+                .emailVerified(true)
+                .build();
+
+        when(userQueryPort.getSummaryById(summary.getId())).thenReturn(summary);
+
+        String content = mockMvc.perform(get("/internal/users")
+                        .param("id", summary.getId())
+                        .param("view", "summary")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(content).isNotBlank();
+        assertThat(content).doesNotContain("password");
+
+        UserSummary summaryResponse = objectMapper.readValue(content, UserSummary.class);
+
+        AssertionUtils.assertFrom(summary, summaryResponse);
+        verify(userQueryPort, never()).getById(summary.getId());
+    }
+
     @Test
     void existsByEmail_shouldReturnExistenceStatus() throws Exception {
         String email = "test@gmail.com";
@@ -216,6 +378,46 @@ public class InternalUserControllerTest {
         AssertionUtils.assertFrom(userResponse, user);
     }
 
+    @Test
+    void save_shouldExchangeCbor_whenNegotiated() throws Exception {
+        User user = UserDataBuilder.withAllFields().build();
+        SaveUserRequest request = SaveUserRequestDataBuilder.withAllFields().build();
+
+        when(userCommandPort.save(request)).thenReturn(user);
+
+        MvcResult result = mockMvc.perform(post("/internal/users")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(binaryObjectMappers.cbor().writeValueAsBytes(request))
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        User userResponse = binaryObjectMappers.cbor().readValue(result.getResponse().getContentAsByteArray(), User.class);
+
+        AssertionUtils.assertFrom(userResponse, user);
+    }
+
+    @Test
+    void getById_shouldReturnSmile_whenAccepted() throws Exception {
+        User user = UserDataBuilder.withAllFields().build();
+
+        when(userQueryPort.getById(user.getId())).thenReturn(user);
+
+        MvcResult result = mockMvc.perform(get("/internal/users")
+                        .param("id", user.getId())
+                        .accept(BinaryObjectMappers.APPLICATION_SMILE)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(BinaryObjectMappers.APPLICATION_SMILE.toString());
+        User userResponse = binaryObjectMappers.smile().readValue(result.getResponse().getContentAsByteArray(), User.class);
+
+        AssertionUtils.assertFrom(user, userResponse);
+    }
+
     @Test
     void save_shouldReturnNotFound() throws Exception {
         SaveUserRequest request = SaveUserRequestDataBuilder.withAllFields().build();
@@ -239,4 +441,271 @@ public class InternalUserControllerTest {
         assertThat(response.getPath()).isEqualTo(requestUri);
         assertThat(response.getCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
     }
+
+    @Test
+    void getBatch_shouldReturnEntriesInRequestOrder() throws Exception {
+        User user = UserDataBuilder.withAllFields().build();
+        BatchUserRequest request = BatchUserRequest.builder().ids(List.of("missing", user.getId())).build();
+
+        when(userQueryPort.getByIds(Set.of("missing", user.getId()))).thenReturn(Map.of(user.getId(), user));
+
+        String content = mockMvc.perform(post("/internal/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(content).isNotBlank();
+        BatchUserResponse response = objectMapper.readValue(content, BatchUserResponse.class);
+
+        assertThat(response.users().size()).isEqualTo(2);
+        assertThat(response.users().get(0).key()).isEqualTo("missing");
+        assertThat(response.users().get(0).found()).isFalse();
+        assertThat(response.users().get(0).user()).isNull();
+        assertThat(response.users().get(1).key()).isEqualTo(user.getId());
+        assertThat(response.users().get(1).found()).isTrue();
+        AssertionUtils.assertFrom(user, response.users().get(1).user());
+    }
+
+    @Test
+    void getBatch_shouldReturnBadRequest_whenLimitExceeded() throws Exception {
+        BatchUserRequest request = BatchUserRequest.builder().emails(Collections.nCopies(501, "test@gmail.com")).build();
+
+        String content = mockMvc.perform(post("/internal/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(content).isNotBlank();
+
+        ExceptionResponse response = objectMapper.readValue(content, ExceptionResponse.class);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        verify(userQueryPort, never()).getByEmails(anyCollection());
+    }
+
+    @Test
+    void getBatch_shouldReturnBadRequest_whenBothKeyTypesProvided() throws Exception {
+        BatchUserRequest request = BatchUserRequest.builder()
+                .ids(List.of("id"))
+                .emails(List.of("test@gmail.com"))
+                .build();
+
+        mockMvc.perform(post("/internal/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importUsers_shouldStreamResultPerLine() throws Exception {
+        String body = """
+                {"email":"first@mail.com"}
+                not json
+
+                {"email":"second@mail.com"}
+                {"fullName":"No Email"}
+                """;
+
+        when(userCommandPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SaveUserRequest> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> BulkUserResult.of(request.email(), UUID.randomUUID().toString(), BulkUserStatus.CREATED))
+                    .toList();
+        });
+
+        String content = mockMvc.perform(post("/internal/users/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<BulkUserResult> results = content.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, BulkUserResult.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+
+        assertThat(results.size()).isEqualTo(4);
+        assertThat(results.get(0).line()).isEqualTo(1L);
+        assertThat(results.get(0).status()).isEqualTo(BulkUserStatus.CREATED);
+        assertThat(results.get(1).line()).isEqualTo(2L);
+        assertThat(results.get(1).status()).isEqualTo(BulkUserStatus.INVALID);
+        assertThat(results.get(2).line()).isEqualTo(4L);
+        assertThat(results.get(2).email()).isEqualTo("second@mail.com");
+        assertThat(results.get(3).status()).isEqualTo(BulkUserStatus.INVALID);
+        verify(userCommandPort, times(2)).saveAll(anyList());
+        verify(userCommandPort, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void exportUsers_shouldStreamProjectedUsers() throws Exception {
+        User first = UserDataBuilder.withAllFields().id("1").email("first@mail.com").build();
+        User second = UserDataBuilder.withAllFields().id("2").email("second@mail.com").build();
+
+        when(userQueryPort.streamAll(any(UserExportQuery.class))).thenReturn(Stream.of(first, second));
+
+        String content = mockMvc.perform(get("/internal/users/export")
+                        .param("fields", "id", "email")
+                        .param("since", "2025-01-01T00:00:00Z")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = content.lines().toList();
+        assertThat(lines.size()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines.get(0)).size()).isEqualTo(2);
+        assertThat(objectMapper.readTree(lines.get(1)).get("email").asText()).isEqualTo("second@mail.com");
+
+        verify(userQueryPort).streamAll(UserExportQuery.builder()
+                .since(Instant.parse("2025-01-01T00:00:00Z"))
+                .fields(Set.of("id", "email"))
+                .batchSize(1_000)
+                .build());
+    }
+
+    @Test
+    void exportUsers_shouldStreamCborSequence_whenAccepted() throws Exception {
+        User first = UserDataBuilder.withAllFields().id("1").email("first@mail.com").build();
+        User second = UserDataBuilder.withAllFields().id("2").email("second@mail.com").build();
+
+        when(userQueryPort.streamAll(any(UserExportQuery.class))).thenReturn(Stream.of(first, second));
+
+        MvcResult result = mockMvc.perform(get("/internal/users/export")
+                        .accept(BinaryObjectMappers.APPLICATION_CBOR_SEQ)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).isEqualTo(BinaryObjectMappers.APPLICATION_CBOR_SEQ.toString());
+        try (MappingIterator<User> users = binaryObjectMappers.cbor().readerFor(User.class).readValues(result.getResponse().getContentAsByteArray())) {
+            List<User> exported = users.readAll();
+            assertThat(exported.size()).isEqualTo(2);
+            assertThat(exported.get(1).getEmail()).isEqualTo("second@mail.com");
+        }
+    }
+
+    @Test
+    void exportUsers_shouldReturnBadRequest_whenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/internal/users/export")
+                        .param("fields", "id", "secret")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isBadRequest());
+
+        verify(userQueryPort, never()).streamAll(any(UserExportQuery.class));
+    }
+
+    @Test
+    void exportUsers_shouldReturnBadRequest_whenPasswordIsRequested() throws Exception {
+        mockMvc.perform(get("/internal/users/export")
+                        .param("fields", "id", "password")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        verify(userQueryPort, never()).streamAll(any(UserExportQuery.class));
+    }
+
+    @Test
+    void search_shouldReturnPageWithNextCursor() throws Exception {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        User first = UserDataBuilder.withAllFields().id("1").createdAt(createdAt).build();
+        User second = UserDataBuilder.withAllFields().id("2").createdAt(createdAt).build();
+        User third = UserDataBuilder.withAllFields().id("3").createdAt(createdAt).build();
+        UserSearchCursor after = new UserSearchCursor(createdAt.minusSeconds(1), "0");
+
+        when(userQueryPort.search(any(UserSearchQuery.class))).thenReturn(List.of(first, second, third));
+
+        String content = mockMvc.perform(get("/internal/users/search")
+                        .param("status", "ACTIVE")
+                        .param("roles", "USER")
+                        .param("cursor", after.encode())
+                        .param("limit", "2")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        UserSearchPage page = objectMapper.readValue(content, UserSearchPage.class);
+        assertThat(page.users().size()).isEqualTo(2);
+        assertThat(UserSearchCursor.decode(page.next())).isEqualTo(UserSearchCursor.of(second));
+
+        verify(userQueryPort).search(UserSearchQuery.builder()
+                .status(UserStatus.ACTIVE)
+                .roles(Set.of(UserRole.USER))
+                .after(after)
+                .limit(3)
+                .build());
+    }
+
+    @Test
+    void search_shouldReturnBadRequest_whenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/internal/users/search")
+                        .param("cursor", "not-a-cursor")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isBadRequest());
+
+        verify(userQueryPort, never()).search(any(UserSearchQuery.class));
+    }
+
+    @Test
+    void pollChanges_shouldReturnEventsAfterSince() throws Exception {
+        String since = UUID.randomUUID().toString();
+        userChangeFeed.publish(UserChangeEvent.builder().token(since).userId("id").type(UserChangeType.INSERT).build());
+        userChangeFeed.publish(UserChangeEvent.builder().token("next").userId("id").type(UserChangeType.UPDATE)
+                .changedFields(Map.of("status", "ACTIVE")).build());
+
+        MvcResult result = mockMvc.perform(get("/internal/users/changes/poll")
+                        .param("since", since)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        UserChangeEvent[] events = objectMapper.readValue(content, UserChangeEvent[].class);
+        assertThat(events.length).isEqualTo(1);
+        assertThat(events[0].token()).isEqualTo("next");
+        assertThat(events[0].changedFields().get("status")).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void pollChanges_shouldReturnGone_whenSinceIsUnknown() throws Exception {
+        mockMvc.perform(get("/internal/users/changes/poll")
+                        .param("since", "unknown")
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void streamChanges_shouldSendPublishedEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/internal/users/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(authentication(initAuth(null, null))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String token = UUID.randomUUID().toString();
+        userChangeFeed.publish(UserChangeEvent.builder().token(token).userId("id").type(UserChangeType.DELETE).build());
+
+        String content = "";
+        for (int i = 0; i < 50 && !content.contains(token); i++) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+
+        assertThat(content).contains("id:" + token);
+        assertThat(content).contains("event:change");
+    }
 }
@@ -0,0 +1,105 @@
+package com.vendo.user_service.adapter.in.user;
+
+import com.vendo.core_lib.utils.AssertionUtils;
+import com.vendo.security_lib.exception.response.ExceptionResponse;
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.port.user.ReactiveUserCommandPort;
+import com.vendo.user_service.port.user.ReactiveUserQueryPort;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static com.vendo.user_service.adapter.out.security.util.SecurityContextUtils.initAuth;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockAuthentication;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+public class ReactiveInternalUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveUserQueryPort userQueryPort;
+
+    @MockitoBean
+    private ReactiveUserCommandPort userCommandPort;
+
+    @Test
+    void getById_shouldReturnUser() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        when(userQueryPort.getById(user.getId())).thenReturn(Mono.just(user));
+
+        User userResponse = webTestClient.mutateWith(mockAuthentication(initAuth(null, null)))
+                .get().uri(uri -> uri.path("/internal/users").queryParam("id", user.getId()).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+
+        AssertionUtils.assertFrom(user, userResponse);
+    }
+
+    @Test
+    void getById_shouldReturnNotFound() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        when(userQueryPort.getById(user.getId())).thenReturn(Mono.error(new UserNotFoundException("User not found.")));
+
+        ExceptionResponse exceptionResponse = webTestClient.mutateWith(mockAuthentication(initAuth(null, null)))
+                .get().uri(uri -> uri.path("/internal/users").queryParam("id", user.getId()).build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(ExceptionResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(exceptionResponse).isNotNull();
+        assertThat(exceptionResponse.getCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(exceptionResponse.getMessage()).isEqualTo("User not found.");
+        assertThat(exceptionResponse.getPath()).isEqualTo("/internal/users");
+    }
+
+    @Test
+    void existsByEmail_shouldReturnExistsResponse() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        when(userQueryPort.existsByEmail(user.getEmail())).thenReturn(Mono.just(true));
+
+        ExistsUserResponse response = webTestClient.mutateWith(mockAuthentication(initAuth(null, null)))
+                .get().uri(uri -> uri.path("/internal/users/exists").queryParam("email", user.getEmail()).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ExistsUserResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(response).isNotNull();
+        assertThat(response.exists()).isTrue();
+    }
+
+    @Test
+    void getById_shouldReturnUnauthorized_whenTokenIsMissing() {
+        ExceptionResponse exceptionResponse = webTestClient
+                .get().uri(uri -> uri.path("/internal/users").queryParam("id", "id").build())
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody(ExceptionResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(exceptionResponse).isNotNull();
+        assertThat(exceptionResponse.getCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(exceptionResponse.getPath()).isEqualTo("/internal/users");
+    }
+}
@@ -0,0 +1,110 @@
+package com.vendo.user_service.adapter.in.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vendo.user_lib.type.UserRole;
+import com.vendo.user_service.adapter.user.in.json.UserJsonModule;
+import com.vendo.user_service.application.command.ExistsUserResponse;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserJsonModuleTest {
+
+    private final ObjectMapper defaultMapper = mapper(false);
+    private final ObjectMapper userMapper = mapper(true);
+
+    @Test
+    void writeUser_shouldMatchDefaultSerializer() throws Exception {
+        User user = UserDataBuilder.withAllFields()
+                .email("tést\"quote@mail.com")
+                .roles(new LinkedHashSet<>(List.of(UserRole.ADMIN, UserRole.USER)))
+                .birthDate(LocalDate.of(1990, 2, 28))
+                .createdAt(Instant.parse("2024-02-29T23:59:59.123Z"))
+                .updatedAt(Instant.parse("2024-03-01T00:00:00Z"))
+                .build();
+
+        assertSameBytes(user);
+        assertSameBytes(new User());
+        assertSameBytes(UserDataBuilder.withAllFields().roles(Set.of()).build());
+    }
+
+    @Test
+    void writeUser_shouldMatchDefaultSerializer_forEdgeInstants() throws Exception {
+        List<Instant> instants = List.of(
+                Instant.EPOCH,
+                Instant.ofEpochSecond(-1),
+                Instant.ofEpochSecond(0, 1),
+                Instant.ofEpochSecond(0, 120_000),
+                Instant.parse("0000-01-01T00:00:00Z"),
+                Instant.parse("9999-12-31T23:59:59.999999999Z"),
+                Instant.parse("+10000-01-01T00:00:00Z"),
+                Instant.parse("-0001-12-31T23:59:59Z"));
+
+        for (Instant instant : instants) {
+            assertSameBytes(User.builder().createdAt(instant).birthDate(LocalDate.ofInstant(instant, ZoneOffset.UTC)).build());
+        }
+    }
+
+    @Test
+    void writeUser_shouldMatchDefaultSerializer_forRandomDates() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long seconds = random.nextLong(-62_167_219_200L, 253_402_300_800L);
+            int nanos = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+
+            assertSameBytes(User.builder().updatedAt(instant).birthDate(LocalDate.ofEpochDay(Math.floorDiv(seconds, 86_400))).build());
+        }
+    }
+
+    @Test
+    void writeUser_shouldDelegate_whenFormatDiffersFromDefaults() throws Exception {
+        User user = UserDataBuilder.withAllFields().createdAt(Instant.parse("2024-01-01T10:00:00.5Z")).build();
+
+        ObjectMapper timestamps = mapper(true).enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper nonNull = mapper(true).setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        assertThat(timestamps.writeValueAsString(user))
+                .isEqualTo(mapper(false).enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(user));
+        assertThat(nonNull.writeValueAsString(user))
+                .isEqualTo(mapper(false).setSerializationInclusion(JsonInclude.Include.NON_NULL).writeValueAsString(user));
+    }
+
+    @Test
+    void writeExistsUserResponse_shouldMatchDefaultSerializer() throws Exception {
+        assertSameBytes(new ExistsUserResponse(true));
+        assertSameBytes(new ExistsUserResponse(false));
+    }
+
+    private void assertSameBytes(Object value) throws Exception {
+        assertThat(userMapper.writeValueAsBytes(value)).isEqualTo(defaultMapper.writeValueAsBytes(value));
+        assertThat(userMapper.writeValueAsString(value)).isEqualTo(defaultMapper.writeValueAsString(value));
+    }
+
+    private static ObjectMapper mapper(boolean userModule) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (userModule) {
+            builder.modulesToInstall(new UserJsonModule());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.adapter.user.out.persistence.UserRepository;
+import com.vendo.user_service.adapter.user.out.props.EmailFilterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EmailFilterTest {
+
+    private UserRepository userRepository;
+
+    private EmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        emailFilter = new EmailFilter(new EmailFilterProperties(), userRepository);
+    }
+
+    @Test
+    void mightContain_shouldReturnTrue_whenNotBuilt() {
+        assertThat(emailFilter.mightContain("test@gmail.com")).isTrue();
+    }
+
+    @Test
+    void mightContain_shouldReturnFalse_whenEmailNotStored() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of(MongoUser.builder().email("stored@gmail.com").build()));
+
+        emailFilter.rebuild();
+
+        assertThat(emailFilter.mightContain("stored@gmail.com")).isTrue();
+        assertThat(emailFilter.mightContain("test@gmail.com")).isFalse();
+    }
+
+    @Test
+    void put_shouldAddEmailToBuiltFilter() {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+
+        emailFilter.rebuild();
+        emailFilter.put("test@gmail.com");
+
+        assertThat(emailFilter.mightContain("test@gmail.com")).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.persistence.LookupBatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LookupBatcherTest {
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+    private List<Set<String>> queries;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        queries = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_shouldResolveKeysWithinWindowWithOneQuery() throws Exception {
+        LookupBatcher<String, String> batcher = batcher(Duration.ofMillis(200), 100);
+
+        List<Future<String>> results = List.of(
+                executor.submit(() -> batcher.load("a")),
+                executor.submit(() -> batcher.load("b")),
+                executor.submit(() -> batcher.load("a")));
+
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("B");
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(queries).containsExactly(Set.of("a", "b"));
+    }
+
+    @Test
+    void load_shouldNotWaitForWindow_whenBatchIsFull() throws Exception {
+        LookupBatcher<String, String> batcher = batcher(Duration.ofMinutes(1), 2);
+
+        Future<String> first = executor.submit(() -> batcher.load("a"));
+        Future<String> second = executor.submit(() -> batcher.load("b"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("B");
+    }
+
+    @Test
+    void load_shouldFailWithNotFound_whenKeyIsMissing() {
+        LookupBatcher<String, String> batcher = batcher(Duration.ofMillis(1), 100);
+
+        assertThatThrownBy(() -> batcher.load("missing")).isInstanceOf(UserNotFoundException.class);
+    }
+
+    private LookupBatcher<String, String> batcher(Duration window, int maxSize) {
+        Function<Set<String>, Map<String, String>> loader = keys -> {
+            queries.add(keys);
+            return keys.stream()
+                    .filter(key -> !key.equals("missing"))
+                    .collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+        };
+
+        return new LookupBatcher<>(window, maxSize, loader, () -> new UserNotFoundException("User not found."),
+                scheduler, executor, new SimpleMeterRegistry().summary("batch"));
+    }
+}
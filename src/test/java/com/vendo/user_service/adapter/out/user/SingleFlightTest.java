@@ -0,0 +1,136 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.cache.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void execute_shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("getById", "id", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "user";
+        }), release);
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("user");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void execute_shouldPropagateFailureToEveryCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("getById", "id", () -> {
+            await(release);
+            throw new UserNotFoundException("User not found.");
+        }), release);
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(UserNotFoundException.class);
+        }
+    }
+
+    @Test
+    void execute_shouldLoadAgain_onceCallCompleted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("getById", "id", loads::incrementAndGet);
+        singleFlight.execute("getById", "id", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void share_shouldShareOneSubscriptionBetweenOverlappingSubscribers() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.share("getById", "id", () -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        });
+        Mono<String> second = singleFlight.share("getById", "id", () -> {
+            loads.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        CompletableFuture<String> firstResult = first.toFuture();
+        CompletableFuture<String> secondResult = second.toFuture();
+        result.tryEmitValue("user");
+
+        assertThat(firstResult.join()).isEqualTo("user");
+        assertThat(secondResult.join()).isEqualTo("user");
+
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.share("getById", "id", () -> Mono.just("reloaded")).block()).isEqualTo("reloaded");
+    }
+
+    private List<Future<String>> callConcurrently(Callable<String> call, CountDownLatch release) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(call));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (count("executed") + count("coalesced") < CALLERS && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            return results;
+        }
+    }
+
+    private double count(String outcome) {
+        Counter counter = meterRegistry.find("users.lookups").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.cache.UserCacheInvalidator;
+import com.vendo.user_service.adapter.user.out.cache.UserResponseCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.persistence.UserRepository;
+import com.vendo.user_service.adapter.user.out.props.EmailFilterProperties;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.adapter.user.out.props.UserResponseCacheProperties;
+import com.vendo.user_service.application.UserChangeFeedService;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.domain.user.UserChangeType;
+import com.vendo.user_service.infrastructure.props.ChangeFeedProps;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UserCacheInvalidatorTest {
+
+    private UserChangeFeedService userChangeFeed;
+    private UserCache userCache;
+    private UserRepository userRepository;
+    private EmailFilter emailFilter;
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserCacheInvalidator userCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userChangeFeed = new UserChangeFeedService(new ChangeFeedProps());
+        userCache = new UserCache(new UserCacheProperties(), meterRegistry, new UserMapperImpl());
+        userRepository = mock(UserRepository.class);
+        emailFilter = new EmailFilter(new EmailFilterProperties(), userRepository);
+        userCacheInvalidator = new UserCacheInvalidator(userChangeFeed, userCache,
+                new UserResponseCache(new UserResponseCacheProperties(), meterRegistry, userCache, new ObjectMapper()), emailFilter, meterRegistry);
+        userCacheInvalidator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userCacheInvalidator.stop();
+    }
+
+    @Test
+    void onChange_shouldEvictUser_whenChangedElsewhere() throws Exception {
+        Instant cachedAt = Instant.parse("2025-01-01T00:00:00Z");
+        User user = UserDataBuilder.withAllFields().updatedAt(cachedAt).build();
+        userCache.cache(user);
+
+        userChangeFeed.publish(event(user.getId(), UserChangeType.UPDATE, cachedAt.plusSeconds(1)));
+
+        assertThat(eventually(() -> meterRegistry.get("users.cache.invalidation.lag").timer().count() == 1L)).isTrue();
+        assertThat(userCache.getIfPresent(user.getId())).isNull();
+    }
+
+    @Test
+    void onChange_shouldEvictUser_whenCachedVersionHasLaterClock() throws Exception {
+        Instant cachedAt = Instant.parse("2025-01-01T00:00:00Z");
+        User user = UserDataBuilder.withAllFields().updatedAt(cachedAt).build();
+        userCache.cache(user);
+
+        userChangeFeed.publish(event(user.getId(), UserChangeType.UPDATE, cachedAt.minusMillis(1)));
+
+        assertThat(eventually(() -> meterRegistry.get("users.cache.invalidation.lag").timer().count() == 1L)).isTrue();
+        assertThat(userCache.getIfPresent(user.getId())).isNull();
+    }
+
+    @Test
+    void onChange_shouldKeepUser_whenCacheIsAtSameVersion() throws Exception {
+        Instant cachedAt = Instant.parse("2025-01-01T00:00:00Z");
+        User user = UserDataBuilder.withAllFields().updatedAt(cachedAt).build();
+        userCache.cache(user);
+
+        userChangeFeed.publish(event(user.getId(), UserChangeType.UPDATE, cachedAt));
+
+        assertThat(eventually(() -> meterRegistry.get("users.cache.invalidation.lag").timer().count() == 1L)).isTrue();
+        assertThat(userCache.getIfPresent(user.getId())).isSameAs(user);
+    }
+
+    @Test
+    void onChange_shouldEvictUser_whenDeleted() throws Exception {
+        User user = UserDataBuilder.withAllFields().updatedAt(Instant.now()).build();
+        userCache.cache(user);
+
+        userChangeFeed.publish(event(user.getId(), UserChangeType.DELETE, null));
+
+        assertThat(eventually(() -> userCache.getIfPresent(user.getId()) == null)).isTrue();
+    }
+
+    @Test
+    void onChange_shouldAddEmailToFilter_whenInserted() throws Exception {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+        emailFilter.rebuild();
+        assertThat(emailFilter.mightContain("inserted@mail.com")).isFalse();
+
+        userChangeFeed.publish(UserChangeEvent.builder()
+                .token("insert")
+                .userId("1")
+                .type(UserChangeType.INSERT)
+                .changedFields(Map.of("email", "Inserted@Mail.com"))
+                .occurredAt(Instant.now())
+                .build());
+
+        assertThat(eventually(() -> emailFilter.mightContain("inserted@mail.com"))).isTrue();
+    }
+
+    private static UserChangeEvent event(String id, UserChangeType type, Instant updatedAt) {
+        return UserChangeEvent.builder()
+                .token(type + "-" + updatedAt)
+                .userId(id)
+                .type(type)
+                .updatedAt(updatedAt)
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return condition.getAsBoolean();
+    }
+}
@@ -0,0 +1,162 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.domain.user.UserSummary;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UserCacheTest {
+
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(new UserCacheProperties(), new SimpleMeterRegistry(), new UserMapperImpl());
+    }
+
+    @Test
+    void getById_shouldLoadOnlyOnce() {
+        User user = UserDataBuilder.withAllFields().build();
+        AtomicInteger loads = new AtomicInteger();
+
+        userCache.getById(user.getId(), id -> {
+            loads.incrementAndGet();
+            return user;
+        });
+        User cached = userCache.getById(user.getId(), id -> {
+            loads.incrementAndGet();
+            return user;
+        });
+
+        assertThat(cached).isSameAs(user);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getByEmail_shouldIgnoreCase() {
+        User user = UserDataBuilder.withAllFields().email("Test@Mail.com").build();
+
+        userCache.getByEmail(user.getEmail(), email -> user);
+
+        User cached = userCache.getByEmail(" test@mail.COM", email -> {
+            throw new IllegalStateException("Should be served from cache.");
+        });
+
+        assertThat(cached).isSameAs(user);
+        assertThat(userCache.getAllByEmail(List.of("TEST@mail.com"), emails -> Map.of())).containsEntry("TEST@mail.com", user);
+    }
+
+    @Test
+    void getByEmail_shouldResolveToUserCachedById() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        userCache.getById(user.getId(), id -> user);
+        userCache.getByEmail(user.getEmail(), email -> user);
+
+        User cached = userCache.getByEmail(user.getEmail(), email -> {
+            throw new IllegalStateException("Should be served from cache.");
+        });
+
+        assertThat(cached).isSameAs(user);
+    }
+
+    @Test
+    void getById_shouldNotCacheMissingUser() {
+        assertThatThrownBy(() -> userCache.getById("id", id -> {
+            throw new UserNotFoundException("User not found.");
+        })).isInstanceOf(UserNotFoundException.class);
+
+        User user = UserDataBuilder.withAllFields().build();
+        assertThat(userCache.getById("id", id -> user)).isSameAs(user);
+    }
+
+    @Test
+    void put_shouldReplaceOlderVersionForBothKeys() {
+        Instant now = Instant.now();
+        User stale = UserDataBuilder.withAllFields().updatedAt(now).build();
+        User fresh = UserDataBuilder.withAllFields().fullName("Updated Name").updatedAt(now.plusSeconds(1)).build();
+
+        userCache.getByEmail(stale.getEmail(), email -> stale);
+        userCache.put(fresh);
+
+        assertThat(userCache.getById(fresh.getId(), id -> stale)).isSameAs(fresh);
+        assertThat(userCache.getByEmail(fresh.getEmail(), email -> stale)).isSameAs(fresh);
+    }
+
+    @Test
+    void put_shouldReplaceEntryWithLaterClock() {
+        Instant now = Instant.now();
+        User cached = UserDataBuilder.withAllFields().updatedAt(now.plusSeconds(1)).build();
+        User written = UserDataBuilder.withAllFields().fullName("Updated Name").updatedAt(now).build();
+
+        userCache.getById(cached.getId(), id -> cached);
+        userCache.put(written);
+
+        assertThat(userCache.getById(written.getId(), id -> cached)).isSameAs(written);
+        assertThat(userCache.getSummaryIfPresent(written.getId()).getUpdatedAt()).isEqualTo(now);
+    }
+
+    @Test
+    void evict_shouldDropUserForBothKeys() {
+        User user = UserDataBuilder.withAllFields().build();
+        User reloaded = UserDataBuilder.withAllFields().build();
+
+        userCache.put(user);
+        userCache.evict(user.getId());
+
+        assertThat(userCache.getByEmail(user.getEmail(), email -> reloaded)).isSameAs(reloaded);
+    }
+
+    @Test
+    void evictByEmail_shouldDropSummaryCachedOnItsOwn() {
+        User user = UserDataBuilder.withAllFields().email("Summary@Mail.com").build();
+        UserSummary summary = new UserMapperImpl().toUserSummary(user);
+
+        userCache.cacheSummary(summary);
+        userCache.evictByEmail("summary@mail.com");
+
+        assertThat(userCache.getSummaryIfPresent(user.getId())).isNull();
+        assertThat(userCache.getSummaryIfPresentByEmail(user.getEmail())).isNull();
+    }
+
+    @Test
+    void getSummaryById_shouldDeriveFromCachedUser() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        userCache.put(user);
+
+        UserSummary summary = userCache.getSummaryById(user.getId(), id -> {
+            throw new IllegalStateException("Should be served from cache.");
+        });
+
+        assertThat(summary.getId()).isEqualTo(user.getId());
+        assertThat(summary.getEmail()).isEqualTo(user.getEmail());
+        assertThat(summary.getStatus()).isEqualTo(user.getStatus());
+    }
+
+    @Test
+    void put_shouldReplaceCachedSummary() {
+        Instant now = Instant.now();
+        UserSummary stale = UserSummary.builder().id("id").email("test@mail.com").updatedAt(now).build();
+        User fresh = UserDataBuilder.withAllFields().emailVerified(false).updatedAt(now.plusSeconds(1)).build();
+
+        userCache.getSummaryByEmail(stale.getEmail(), email -> stale);
+        userCache.put(fresh);
+
+        assertThat(userCache.getSummaryByEmail(fresh.getEmail(), email -> stale).isEmailVerified()).isFalse();
+    }
+}
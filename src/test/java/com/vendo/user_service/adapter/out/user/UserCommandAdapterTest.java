@@ -0,0 +1,163 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.vendo.user_lib.exception.UserNotFoundException;
+import com.vendo.user_service.adapter.user.in.dto.SaveUserRequest;
+import com.vendo.user_service.adapter.user.in.dto.UpdateUserRequest;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapper;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.adapter.user.out.persistence.UserCommandAdapter;
+import com.vendo.user_service.adapter.user.out.persistence.UserReadRouter;
+import com.vendo.user_service.application.command.BulkUserResult;
+import com.vendo.user_service.application.command.BulkUserStatus;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.infrastructure.props.MongoReadProps;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UserCommandAdapterTest {
+
+    private UserMapper userMapper;
+    private MongoTemplate mongoTemplate;
+    private UserCache userCache;
+    private EmailFilter emailFilter;
+    private BulkOperations bulkOps;
+
+    private UserCommandAdapter userCommandAdapter;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = mock(UserMapper.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        userCache = mock(UserCache.class);
+        emailFilter = mock(EmailFilter.class);
+        bulkOps = mock(BulkOperations.class);
+        userCommandAdapter = new UserCommandAdapter(userMapper, new UserReadRouter(mongoTemplate, new MongoReadProps()), userCache, emailFilter);
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MongoUser.class)).thenReturn(bulkOps);
+        when(userMapper.toMongoUser(any(SaveUserRequest.class))).thenAnswer(invocation -> {
+            SaveUserRequest request = invocation.getArgument(0);
+            return MongoUser.builder().email(request.email()).build();
+        });
+    }
+
+    @Test
+    void update_shouldSetOnlyNonNullFields() {
+        MongoUser updated = MongoUser.builder().id("id").build();
+        User user = UserDataBuilder.withAllFields().build();
+        UpdateUserRequest request = UpdateUserRequest.builder().fullName("Full Name").build();
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(MongoUser.class))).thenReturn(updated);
+        when(userMapper.toUser(updated)).thenReturn(user);
+
+        userCommandAdapter.update("id", request);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class), eq(MongoUser.class));
+
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set.keySet()).containsExactlyInAnyOrder("fullName", "updatedAt");
+        assertThat(set.get("fullName")).isEqualTo("Full Name");
+        verify(userCache).put(user);
+    }
+
+    @Test
+    void update_shouldThrowNotFound_whenNoDocumentMatched() {
+        UpdateUserRequest request = UpdateUserRequest.builder().fullName("Full Name").build();
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(MongoUser.class))).thenReturn(null);
+
+        assertThatThrownBy(() -> userCommandAdapter.update("id", request)).isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    void saveAll_shouldReportDuplicatesPerRow() {
+        List<SaveUserRequest> requests = List.of(
+                SaveUserRequest.builder().email("first@mail.com").build(),
+                SaveUserRequest.builder().email("taken@mail.com").build());
+
+        BulkOperationException exception = mock(BulkOperationException.class);
+        when(exception.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)));
+        when(bulkOps.insert(anyList())).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenThrow(exception);
+
+        List<BulkUserResult> results = userCommandAdapter.saveAll(requests);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).status()).isEqualTo(BulkUserStatus.CREATED);
+        assertThat(results.get(0).id()).isNotNull();
+        assertThat(results.get(1).status()).isEqualTo(BulkUserStatus.DUPLICATE);
+        assertThat(results.get(1).email()).isEqualTo("taken@mail.com");
+        verify(emailFilter).put("first@mail.com");
+        verify(emailFilter, never()).put("taken@mail.com");
+    }
+
+    @Test
+    void upsertAll_shouldTellInsertsFromUpdates() {
+        List<SaveUserRequest> requests = List.of(
+                SaveUserRequest.builder().email("existing@mail.com").build(),
+                SaveUserRequest.builder().email("new@mail.com").build());
+        ObjectId insertedId = new ObjectId();
+
+        when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(new BulkWriteUpsert(1, new BsonObjectId(insertedId))), List.of()));
+
+        List<BulkUserResult> results = userCommandAdapter.upsertAll(requests);
+
+        assertThat(results.get(0).status()).isEqualTo(BulkUserStatus.UPDATED);
+        assertThat(results.get(1).status()).isEqualTo(BulkUserStatus.CREATED);
+        assertThat(results.get(1).id()).isEqualTo(insertedId.toHexString());
+        verify(userCache).evictByEmail("existing@mail.com");
+        verify(emailFilter).put("new@mail.com");
+    }
+
+    @Test
+    void upsertAll_shouldMatchOnNormalizedEmail() {
+        when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+
+        userCommandAdapter.upsertAll(List.of(SaveUserRequest.builder().email(" Existing@Mail.com").build()));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps).upsert(query.capture(), any(Update.class));
+        assertThat(query.getValue().getQueryObject().get("normalizedEmail")).isEqualTo("existing@mail.com");
+    }
+
+    @Test
+    void upsertAll_shouldOnlySetProvidedFields() {
+        when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+
+        userCommandAdapter.upsertAll(List.of(SaveUserRequest.builder().email("existing@mail.com").fullName("Full Name").build()));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps).upsert(any(Query.class), update.capture());
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        Document setOnInsert = update.getValue().getUpdateObject().get("$setOnInsert", Document.class);
+        assertThat(set.keySet()).containsExactlyInAnyOrder("normalizedEmail", "updatedAt", "fullName");
+        assertThat(setOnInsert.keySet()).containsExactlyInAnyOrder("email", "createdAt", "emailVerified");
+    }
+}
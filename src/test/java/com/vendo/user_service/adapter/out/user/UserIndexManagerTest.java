@@ -0,0 +1,92 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.adapter.user.out.persistence.UserIndexManager;
+import com.vendo.user_service.adapter.user.out.props.UserIndexProperties;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class UserIndexManagerTest {
+
+    private UserIndexProperties props;
+    private FindIterable<Document> findIterable;
+
+    private UserIndexManager userIndexManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        props = new UserIndexProperties();
+        findIterable = mock(FindIterable.class);
+
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollectionName(MongoUser.class)).thenReturn("mongoUser");
+        when(mongoTemplate.getCollection("mongoUser")).thenReturn(collection);
+        when(collection.find(any(Bson.class))).thenReturn(findIterable);
+        when(findIterable.projection(any())).thenReturn(findIterable);
+        when(findIterable.limit(1)).thenReturn(findIterable);
+
+        userIndexManager = new UserIndexManager(mongoTemplate, props);
+    }
+
+    @Test
+    void verifyQueryPlans_shouldPass_whenEveryQueryUsesAnIndex() {
+        props.setPlanCheck(UserIndexProperties.PlanCheck.FAIL);
+        when(findIterable.explain(ExplainVerbosity.QUERY_PLANNER)).thenReturn(plan("""
+                { "stage" : "PROJECTION_COVERED", "inputStage" : { "stage" : "IXSCAN", "indexName" : "email" } }"""));
+
+        assertThat(userIndexManager.verifyQueryPlans()).isEmpty();
+    }
+
+    @Test
+    void verifyQueryPlans_shouldFail_whenQueryScansCollection() {
+        props.setPlanCheck(UserIndexProperties.PlanCheck.FAIL);
+        when(findIterable.explain(ExplainVerbosity.QUERY_PLANNER)).thenReturn(plan("""
+                { "queryPlan" : { "stage" : "LIMIT", "inputStage" : { "stage" : "COLLSCAN" } } }"""));
+
+        assertThatThrownBy(() -> userIndexManager.verifyQueryPlans())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("findByEmail");
+    }
+
+    @Test
+    void verifyQueryPlans_shouldReportRegressions_whenCheckOnlyWarns() {
+        when(findIterable.explain(ExplainVerbosity.QUERY_PLANNER))
+                .thenReturn(plan("{ \"stage\" : \"IDHACK\" }"))
+                .thenReturn(plan("{ \"stage\" : \"FETCH\", \"inputStage\" : { \"stage\" : \"COLLSCAN\" } }"))
+                .thenReturn(plan("{ \"stage\" : \"IXSCAN\" }"));
+
+        assertThat(userIndexManager.verifyQueryPlans()).isEqualTo(List.of("findByEmail"));
+    }
+
+    private static Document plan(String winningPlan) {
+        return new Document("queryPlanner", new Document("winningPlan", Document.parse(winningPlan)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.mongodb.client.ClientSession;
+import com.vendo.user_service.adapter.user.out.cache.EmailFilter;
+import com.vendo.user_service.adapter.user.out.cache.SingleFlight;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.persistence.MongoUser;
+import com.vendo.user_service.adapter.user.out.persistence.ReadAfter;
+import com.vendo.user_service.adapter.user.out.persistence.UserLookupBatcher;
+import com.vendo.user_service.adapter.user.out.persistence.UserQueryAdapter;
+import com.vendo.user_service.adapter.user.out.persistence.UserReadRouter;
+import com.vendo.user_service.adapter.user.out.props.LookupBatchProperties;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.infrastructure.props.MongoReadProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UserQueryAdapterTest {
+
+    private MongoTemplate mongoTemplate;
+    private EmailFilter emailFilter;
+    private UserLookupBatcher lookupBatcher;
+
+    private UserQueryAdapter userQueryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        emailFilter = mock(EmailFilter.class);
+        userQueryAdapter = newAdapter(new MongoReadProps());
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookupBatcher.destroy();
+        ReadAfter.exit(null);
+    }
+
+    @Test
+    void getByEmail_shouldMatchExactEmail_whenNormalizedEmailIsMissing() {
+        MongoUser legacy = MongoUser.builder().id("id").email("Legacy@Mail.com").build();
+
+        when(mongoTemplate.findOne(argThat(query -> query != null && query.getQueryObject().containsKey("email")), eq(MongoUser.class)))
+                .thenReturn(legacy);
+
+        User user = userQueryAdapter.getByEmail("Legacy@Mail.com");
+
+        assertThat(user.getId()).isEqualTo("id");
+    }
+
+    @Test
+    void getByEmails_shouldMatchExactEmail_whenNormalizedEmailIsMissing() {
+        MongoUser legacy = MongoUser.builder().id("id").email("Legacy@Mail.com").build();
+
+        when(mongoTemplate.find(any(Query.class), eq(MongoUser.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            return query.getQueryObject().containsKey("email") ? List.of(legacy) : List.of();
+        });
+
+        Map<String, User> users = userQueryAdapter.getByEmails(List.of("Legacy@Mail.com"));
+
+        assertThat(users).containsOnlyKeys("Legacy@Mail.com");
+    }
+
+    @Test
+    void existsByEmail_shouldSkipEmailFilter_whenReadAfterTokenIsSent() {
+        MongoReadProps props = new MongoReadProps();
+        props.setPreference("secondaryPreferred");
+        props.setMaxStaleness(Duration.ofSeconds(120));
+        lookupBatcher.destroy();
+        userQueryAdapter = newAdapter(props);
+
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        ClientSession session = mock(ClientSession.class);
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getSession(any())).thenReturn(session);
+        when(mongoTemplate.withSession(session)).thenReturn(mongoTemplate);
+        when(mongoTemplate.exists(any(Query.class), eq(MongoUser.class))).thenReturn(true);
+        when(emailFilter.mightContain("new@mail.com")).thenReturn(false);
+
+        assertThat(userQueryAdapter.existsByEmail("new@mail.com")).isFalse();
+
+        ReadAfter.enter("1700000000.3");
+
+        assertThat(userQueryAdapter.existsByEmail("new@mail.com")).isTrue();
+    }
+
+    private UserQueryAdapter newAdapter(MongoReadProps props) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserMapperImpl userMapper = new UserMapperImpl();
+        UserReadRouter readRouter = new UserReadRouter(mongoTemplate, props);
+
+        lookupBatcher = new UserLookupBatcher(new LookupBatchProperties(), readRouter, userMapper, meterRegistry);
+        return new UserQueryAdapter(userMapper, new UserCache(new UserCacheProperties(), meterRegistry, userMapper),
+                emailFilter, mongoTemplate, new SingleFlight(meterRegistry), lookupBatcher, readRouter);
+    }
+}
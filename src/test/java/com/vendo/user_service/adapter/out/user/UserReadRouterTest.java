@@ -0,0 +1,105 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import com.mongodb.client.ClientSession;
+import com.vendo.user_service.adapter.user.out.persistence.ReadAfter;
+import com.vendo.user_service.adapter.user.out.persistence.UserReadRouter;
+import com.vendo.user_service.infrastructure.props.MongoReadProps;
+import org.junit.jupiter.api.AfterEach;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class UserReadRouterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    @AfterEach
+    void tearDown() {
+        ReadAfter.exit(null);
+    }
+
+    @Test
+    void route_shouldLeaveQueryOnPrimary_byDefault() {
+        UserReadRouter router = new UserReadRouter(mongoTemplate, new MongoReadProps());
+
+        Query query = router.route(new Query());
+
+        assertThat(query.getReadPreference()).isNull();
+        assertThat(router.mustReadAfterWrite()).isFalse();
+    }
+
+    @Test
+    void route_shouldApplyPreferenceWithMaxStaleness() {
+        UserReadRouter router = new UserReadRouter(mongoTemplate, props("secondaryPreferred"));
+
+        Query query = router.route(new Query());
+
+        assertThat(query.getReadPreference()).isInstanceOf(TaggableReadPreference.class);
+        TaggableReadPreference preference = (TaggableReadPreference) query.getReadPreference();
+        assertThat(preference.getName()).isEqualTo(ReadPreference.secondaryPreferred().getName());
+        assertThat(preference.getMaxStaleness(TimeUnit.SECONDS)).isEqualTo(120);
+    }
+
+    @Test
+    void mustReadAfterWrite_shouldHonourRequestToken() {
+        UserReadRouter router = new UserReadRouter(mongoTemplate, props("secondaryPreferred"));
+        ReadAfter.enter("1700000000.3");
+
+        assertThat(router.mustReadAfterWrite()).isTrue();
+        assertThat(router.bypassesCache()).isTrue();
+    }
+
+    @Test
+    void write_shouldScopeTokenToRequest() {
+        UserReadRouter router = new UserReadRouter(mongoTemplate, props("secondaryPreferred"));
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        ClientSession session = mock(ClientSession.class);
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(databaseFactory.getSession(any())).thenReturn(session);
+        when(mongoTemplate.withSession(session)).thenReturn(mongoTemplate);
+        when(session.getOperationTime()).thenReturn(new BsonTimestamp(1_700_000_000, 3));
+
+        ReadAfter previous = ReadAfter.enter(null);
+        router.write(ops -> ops.count(new Query(), "users"));
+
+        assertThat(ReadAfter.written()).isEqualTo("1700000000.3");
+        assertThat(router.mustReadAfterWrite()).isTrue();
+        assertThat(router.bypassesCache()).isFalse();
+
+        ReadAfter.exit(previous);
+        ReadAfter.enter(null);
+
+        assertThat(router.mustReadAfterWrite()).isFalse();
+    }
+
+    @Test
+    void read_shouldUseTemplateDirectly_withoutToken() {
+        UserReadRouter router = new UserReadRouter(mongoTemplate, props("secondaryPreferred"));
+
+        router.read(ops -> ops.count(new Query(), "users"));
+
+        verify(mongoTemplate).count(new Query(), "users");
+        verifyNoMoreInteractions(mongoTemplate);
+    }
+
+    private static MongoReadProps props(String preference) {
+        MongoReadProps props = new MongoReadProps();
+        props.setPreference(preference);
+        props.setMaxStaleness(Duration.ofSeconds(120));
+        return props;
+    }
+}
@@ -0,0 +1,102 @@
+package com.vendo.user_service.adapter.out.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vendo.user_service.adapter.user.out.cache.UserCache;
+import com.vendo.user_service.adapter.user.out.cache.UserResponseCache;
+import com.vendo.user_service.adapter.user.out.mapper.UserMapperImpl;
+import com.vendo.user_service.adapter.user.out.props.UserCacheProperties;
+import com.vendo.user_service.adapter.user.out.props.UserResponseCacheProperties;
+import com.vendo.user_service.domain.user.User;
+import com.vendo.user_service.test_utils.builder.UserDataBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserResponseCacheTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private UserCache userCache;
+    private UserResponseCache responseCache;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(new UserCacheProperties(), meterRegistry, new UserMapperImpl());
+        responseCache = new UserResponseCache(new UserResponseCacheProperties(), meterRegistry, userCache, objectMapper);
+    }
+
+    @Test
+    void cache_shouldNotOverwriteCachedVersion() throws Exception {
+        User stale = UserDataBuilder.withAllFields().fullName("Stale").updatedAt(UPDATED_AT).build();
+        User updated = UserDataBuilder.withAllFields().fullName("Updated").updatedAt(UPDATED_AT.plusSeconds(1)).build();
+
+        userCache.put(updated);
+        responseCache.cache(updated);
+        UserResponseCache.Entry entry = responseCache.cache(stale);
+
+        assertThat(entry.etag()).isEqualTo("\"id-" + UPDATED_AT.plusSeconds(1).toEpochMilli() + "\"");
+        assertThat(entry.body()).isEqualTo(objectMapper.writeValueAsBytes(updated));
+        assertThat(responseCache.getIfPresent(updated.getId())).isSameAs(entry);
+    }
+
+    @Test
+    void evictUnlessCurrent_shouldKeepEntry_onlyAtSameVersion() {
+        User user = UserDataBuilder.withAllFields().updatedAt(UPDATED_AT).build();
+        userCache.put(user);
+        responseCache.cache(user);
+
+        responseCache.evictUnlessCurrent(user.getId(), UPDATED_AT);
+        assertThat(responseCache.getIfPresent(user.getId())).isNotNull();
+
+        responseCache.evictUnlessCurrent(user.getId(), UPDATED_AT.minusMillis(1));
+        assertThat(responseCache.getIfPresent(user.getId())).isNull();
+    }
+
+    @Test
+    void cache_shouldNotStoreLoad_whenUserWasWrittenAfterIt() {
+        User stale = UserDataBuilder.withAllFields().fullName("Stale").updatedAt(UPDATED_AT).build();
+        User updated = UserDataBuilder.withAllFields().fullName("Updated").updatedAt(UPDATED_AT.minusSeconds(1)).build();
+        userCache.put(stale);
+
+        userCache.put(updated);
+        responseCache.evict(updated.getId());
+        UserResponseCache.Entry entry = responseCache.cache(stale);
+
+        assertThat(entry.updatedAt()).isEqualTo(UPDATED_AT);
+        assertThat(responseCache.getIfPresent(stale.getId())).isNull();
+    }
+
+    @Test
+    void evictByEmail_shouldDropEntry_whenUserIsNoLongerCached() {
+        User user = UserDataBuilder.withAllFields().email("Cached@Mail.com").updatedAt(UPDATED_AT).build();
+        userCache.put(user);
+        responseCache.cache(user);
+
+        userCache.evict(user.getId());
+        responseCache.evictByEmail("cached@mail.com");
+
+        assertThat(responseCache.getIfPresent(user.getId())).isNull();
+    }
+
+    @Test
+    void cache_shouldServeButNotStore_whenVersionIsUnknown() {
+        User user = UserDataBuilder.withAllFields().build();
+
+        UserResponseCache.Entry entry = responseCache.cache(user);
+
+        assertThat(entry.etag()).isNull();
+        assertThat(entry.body()).isNotEmpty();
+        assertThat(responseCache.getIfPresent(user.getId())).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.vendo.user_service.application;
+
+import com.vendo.user_service.application.exception.ChangeFeedResetException;
+import com.vendo.user_service.domain.user.UserChangeEvent;
+import com.vendo.user_service.domain.user.UserChangeType;
+import com.vendo.user_service.infrastructure.props.ChangeFeedProps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UserChangeFeedServiceTest {
+
+    private UserChangeFeedService userChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        ChangeFeedProps props = new ChangeFeedProps();
+        props.setBufferSize(3);
+        userChangeFeed = new UserChangeFeedService(props);
+    }
+
+    @Test
+    void eventsAfter_shouldReturnEventsPublishedAfterToken() {
+        userChangeFeed.publish(event("1"));
+        userChangeFeed.publish(event("2"));
+        userChangeFeed.publish(event("3"));
+
+        assertThat(userChangeFeed.eventsAfter("1")).extracting(UserChangeEvent::token).containsExactly("2", "3");
+        assertThat(userChangeFeed.eventsAfter("3")).isEmpty();
+        assertThat(userChangeFeed.eventsAfter(null)).isEmpty();
+    }
+
+    @Test
+    void eventsAfter_shouldThrowReset_whenTokenIsNoLongerBuffered() {
+        for (int i = 1; i <= 4; i++) {
+            userChangeFeed.publish(event(String.valueOf(i)));
+        }
+
+        assertThatThrownBy(() -> userChangeFeed.eventsAfter("1")).isInstanceOf(ChangeFeedResetException.class);
+    }
+
+    @Test
+    void subscribe_shouldDeliverBacklogThenLiveEvents() throws Exception {
+        userChangeFeed.publish(event("1"));
+        userChangeFeed.publish(event("2"));
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+
+        var subscription = userChangeFeed.subscribe("1", event -> {
+            received.add(event.token());
+            latch.countDown();
+        }, () -> { });
+
+        userChangeFeed.publish(event("3"));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly("2", "3");
+        subscription.cancel();
+    }
+
+    @Test
+    void subscribe_shouldReset_whenSubscriberFallsBehind() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch reset = new CountDownLatch(1);
+
+        userChangeFeed.subscribe(null, event -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, reset::countDown);
+
+        for (int i = 1; i <= 5; i++) {
+            userChangeFeed.publish(event(String.valueOf(i)));
+        }
+
+        assertThat(reset.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static UserChangeEvent event(String token) {
+        return UserChangeEvent.builder()
+                .token(token)
+                .userId("id")
+                .type(UserChangeType.UPDATE)
+                .build();
+    }
+}
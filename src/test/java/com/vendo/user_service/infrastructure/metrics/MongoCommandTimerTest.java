@@ -0,0 +1,80 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.vendo.user_service.infrastructure.props.MongoCommandProps;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MongoCommandTimerTest {
+
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MongoCommandTimer commandTimer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        commandTimer = new MongoCommandTimer(meterRegistry, new MongoCommandProps());
+    }
+
+    @Test
+    void commandSucceeded_shouldRecordLatencyAndDocumentsByOperation() {
+        BsonDocument find = new BsonDocument("find", new BsonString("users"))
+                .append("filter", new BsonDocument("normalizedEmail", new BsonString("user@mail.com")));
+        BsonDocument reply = new BsonDocument("cursor", new BsonDocument("firstBatch", new BsonArray(List.of(new BsonDocument(), new BsonDocument()))))
+                .append("ok", new BsonInt32(1));
+
+        String previous = MongoOperation.enter("UserQueryPort.getByEmail");
+        try {
+            commandTimer.commandStarted(new CommandStartedEvent(null, 1, 1, CONNECTION, "users", "find", find));
+        } finally {
+            MongoOperation.exit(previous);
+        }
+        commandTimer.commandSucceeded(new CommandSucceededEvent(null, 1, 1, CONNECTION, "users", "find", reply, TimeUnit.MILLISECONDS.toNanos(3)));
+
+        Timer timer = meterRegistry.get("users.mongo.commands").tags("operation", "UserQueryPort.getByEmail", "collection", "users", "status", "success").timer();
+        DistributionSummary documents = meterRegistry.get("users.mongo.documents").tag("operation", "UserQueryPort.getByEmail").summary();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+        assertThat(documents.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void commandSucceeded_shouldReportNone_outsideOfPortCall() {
+        BsonDocument count = new BsonDocument("count", new BsonString("users"));
+
+        commandTimer.commandStarted(new CommandStartedEvent(null, 1, 2, CONNECTION, "users", "count", count));
+        commandTimer.commandSucceeded(new CommandSucceededEvent(null, 1, 2, CONNECTION, "users", "count", new BsonDocument("n", new BsonInt32(7)), 1_000));
+
+        assertThat(meterRegistry.get("users.mongo.documents").tag("operation", MongoOperation.NONE).summary().totalAmount()).isEqualTo(7);
+    }
+
+    @Test
+    void commandStarted_shouldIgnoreCommandsWithoutCollection() {
+        BsonDocument hello = new BsonDocument("hello", new BsonInt32(1));
+
+        commandTimer.commandStarted(new CommandStartedEvent(null, 1, 3, CONNECTION, "admin", "hello", hello));
+        commandTimer.commandSucceeded(new CommandSucceededEvent(null, 1, 3, CONNECTION, "admin", "hello", new BsonDocument("ok", new BsonInt32(1)), 1_000));
+
+        assertThat(meterRegistry.find("users.mongo.commands").timers()).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.vendo.user_service.infrastructure.metrics;
+
+import com.vendo.user_service.infrastructure.props.SlowRequestProps;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowRequestRecorderTest {
+
+    private SlowRequestProps props;
+
+    private SlowRequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        props = new SlowRequestProps();
+        props.setCapacity(2);
+        props.setThreshold(Duration.ZERO);
+        recorder = new SlowRequestRecorder(props);
+    }
+
+    @Test
+    void snapshot_shouldKeepNewestEntries_whenRingWrapsAround() {
+        for (int i = 1; i <= 3; i++) {
+            recorder.record("GET", "/internal/users/" + i, 200, TimeUnit.MILLISECONDS.toNanos(i), new RequestTrace());
+        }
+
+        List<SlowRequestRecorder.SlowRequest> requests = recorder.snapshot();
+
+        assertThat(requests).extracting(SlowRequestRecorder.SlowRequest::path)
+                .containsExactly("/internal/users/3", "/internal/users/2");
+        assertThat(requests.getFirst().totalMs()).isEqualTo(3.0);
+    }
+
+    @Test
+    void doFilter_shouldRecordStagesOfSlowRequest() throws Exception {
+        SlowRequestFilter filter = new SlowRequestFilter(recorder, props);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/users");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() { }, (req, res, chain) -> {
+            RequestTrace.record(RequestTrace.Stage.PORT, TimeUnit.MILLISECONDS.toNanos(2));
+            RequestTrace.record(RequestTrace.Stage.PORT, TimeUnit.MILLISECONDS.toNanos(1));
+        }));
+
+        SlowRequestRecorder.SlowRequest recorded = recorder.snapshot().getFirst();
+        assertThat(recorded.path()).isEqualTo("/internal/users");
+        assertThat(recorded.stages().get("port")).isEqualTo(new SlowRequestRecorder.Stage(3.0, 2));
+        assertThat(recorded.stages().get("auth").calls()).isZero();
+    }
+
+    @Test
+    void doFilter_shouldSkipExcludedPaths() throws Exception {
+        SlowRequestFilter filter = new SlowRequestFilter(recorder, props);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/internal/users/export"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(recorder.snapshot()).isEmpty();
+    }
+}